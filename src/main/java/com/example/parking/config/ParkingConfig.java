@@ -1,23 +1,111 @@
 package com.example.parking.config;
 
-import com.example.parking.entity.ParkingSpace;
+import com.example.parking.diagnostics.FlightRecordingManager;
+import com.example.parking.domain.ParkingLot;
+import com.example.parking.entity.SpaceSize;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.service.contract.ChangeSink;
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+import com.example.parking.service.implementation.FileChangeSink;
+import com.example.parking.service.implementation.FirstFitAllocationStrategy;
+import com.example.parking.service.implementation.NeighbourSlotAllocationStrategy;
+import com.example.parking.service.implementation.OutboxRelay;
+import com.example.parking.service.implementation.RandomAllocationStrategy;
+import com.example.parking.service.implementation.ReservationRetention;
+import com.example.parking.service.implementation.SubscriberChangeSink;
+import com.example.parking.service.implementation.WebhookChangeSink;
+import com.example.parking.service.implementation.ZoneBalancedAllocationStrategy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import static com.example.parking.util.Constants.TOTAL_PARKING_SPACES;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.BiConsumer;
 
 @Configuration
 public class ParkingConfig {
 
+    /**
+     * Under {@code spring.main.lazy-initialization} nothing asks for the outbox relay, the retention task or the
+     * flight recorder, so they would never start; keep them eager.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBackgroundBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(OutboxRelay.class, ReservationRetention.class,
+                FlightRecordingManager.class);
+    }
+
     @Bean
-    public List<ParkingSpace> parkingSpaces() {
-        var spaces = new ArrayList<ParkingSpace>();
-        for (int i = 1; i <= TOTAL_PARKING_SPACES; i++) {
-            spaces.add(new ParkingSpace(i));
+    public ParkingLot parkingLot(
+            @Value("${parking.lot.total-spaces:100}") int totalSpaces,
+            @Value("${parking.lot.max-occupancy:0.8}") double maxOccupancy,
+            @Value("${parking.lot.ev-spaces:}") String evSpaces,
+            @Value("${parking.lot.accessible-spaces:}") String accessibleSpaces,
+            @Value("${parking.lot.compact-spaces:}") String compactSpaces,
+            @Value("${parking.lot.large-spaces:}") String largeSpaces
+    ) {
+        var lot = new ParkingLot(totalSpaces, maxOccupancy);
+        forEachRange(evSpaces, (from, to) -> lot.setAttribute(from, to, ParkingLot.EV, true));
+        forEachRange(accessibleSpaces, (from, to) -> lot.setAttribute(from, to, ParkingLot.ACCESSIBLE, true));
+        forEachRange(compactSpaces, (from, to) -> lot.setSize(from, to, SpaceSize.COMPACT));
+        forEachRange(largeSpaces, (from, to) -> lot.setSize(from, to, SpaceSize.LARGE));
+        return lot;
+    }
+
+    @Bean
+    public TransactionTemplate bookingTransactionTemplate(PlatformTransactionManager transactionManager) {
+        var template = new TransactionTemplate(transactionManager);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        return template;
+    }
+
+    @Bean
+    public SpaceAllocationStrategy spaceAllocationStrategy(
+            @Value("${parking.allocation.strategy:random}") String strategy,
+            @Value("${parking.allocation.zone-size:10}") int zoneSize,
+            ReservationPlateIndex plateIndex
+    ) {
+        return switch (strategy) {
+            case "first-fit" -> new FirstFitAllocationStrategy();
+            case "random" -> new RandomAllocationStrategy();
+            case "zone-balanced" -> new ZoneBalancedAllocationStrategy(zoneSize);
+            case "neighbour-slot" -> new NeighbourSlotAllocationStrategy(plateIndex, new FirstFitAllocationStrategy());
+            default -> throw new IllegalArgumentException("Unknown space allocation strategy: " + strategy);
+        };
+    }
+
+    @Bean
+    public ChangeSink changeSink(
+            @Value("${parking.outbox.sink:subscriber}") String sink,
+            @Value("${parking.outbox.file:reservation-changes.jsonl}") Path file,
+            @Value("${parking.outbox.webhook-url:}") String webhookUrl,
+            @Value("${parking.outbox.webhook-timeout:5s}") Duration webhookTimeout,
+            ObjectMapper objectMapper
+    ) {
+        return switch (sink) {
+            case "subscriber" -> new SubscriberChangeSink();
+            case "file" -> new FileChangeSink(file, objectMapper);
+            case "webhook" -> new WebhookChangeSink(URI.create(webhookUrl), objectMapper, webhookTimeout);
+            default -> throw new IllegalArgumentException("Unknown change sink: " + sink);
+        };
+    }
+
+    private static void forEachRange(String ranges, BiConsumer<Integer, Integer> action) {
+        for (var range : ranges.split(",")) {
+            if (range.isBlank()) {
+                continue;
+            }
+            var bounds = range.trim().split("-", 2);
+            var from = Integer.parseInt(bounds[0].trim());
+            var to = bounds.length == 2 ? Integer.parseInt(bounds[1].trim()) : from;
+            action.accept(from, to);
         }
-        return spaces;
     }
 }
@@ -0,0 +1,29 @@
+package com.example.parking.controller;
+
+import com.example.parking.model.ApiResponse;
+import com.example.parking.model.ChangeFeedResponse;
+import com.example.parking.service.contract.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import static com.example.parking.util.Constants.MAX_CHANGE_FEED_LIMIT;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/parking/changes")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<ChangeFeedResponse>> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "" + MAX_CHANGE_FEED_LIMIT) int limit
+    ) {
+        return new ResponseEntity<>(ApiResponse.success(changeFeedService.getChanges(since, limit)), HttpStatus.OK);
+    }
+}
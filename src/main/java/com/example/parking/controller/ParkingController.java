@@ -1,31 +1,139 @@
 package com.example.parking.controller;
 
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.SpaceSize;
+import com.example.parking.entity.WaitlistStatus;
 import com.example.parking.model.ApiResponse;
+import com.example.parking.model.BulkCancelResponse;
+import com.example.parking.model.BulkFormat;
+import com.example.parking.model.ImportResultResponse;
+import com.example.parking.model.RecurringReservationRequest;
+import com.example.parking.model.RescheduleRequest;
 import com.example.parking.model.ReservationListResponse;
 import com.example.parking.model.ReservationRequest;
 import com.example.parking.model.ReservationResponse;
+import com.example.parking.model.WaitlistResponse;
 import com.example.parking.service.contract.ParkingService;
+import com.example.parking.service.implementation.ReservationRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.parking.util.Constants.BULK_BUFFER_SIZE;
+import static com.example.parking.util.Constants.CBOR_ETAG_SUFFIX;
+import static com.example.parking.util.Constants.MAX_LONG_POLL_SECONDS;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/parking")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ParkingController {
 
     private final ParkingService parkingService;
+    private final ReservationRateLimiter rateLimiter;
+    private final ContentNegotiationManager contentNegotiationManager;
 
     @PostMapping("/reservations")
     public ResponseEntity<ApiResponse<ReservationResponse>> createReservation(
-            @Valid @RequestBody ReservationRequest request
+            @Valid @RequestBody ReservationRequest request,
+            HttpServletRequest httpRequest
     ) {
+        checkRateLimit(httpRequest, request.getLicensePlate());
         var response = parkingService.createReservation(request);
         return new ResponseEntity<>(ApiResponse.success(response), HttpStatus.CREATED);
     }
 
+    @PostMapping("/reservations/async")
+    public CompletableFuture<ResponseEntity<ApiResponse<ReservationResponse>>> createReservationAsync(
+            @Valid @RequestBody ReservationRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        checkRateLimit(httpRequest, request.getLicensePlate());
+        return parkingService.createReservationAsync(request)
+                .thenApply(response -> new ResponseEntity<>(ApiResponse.success(response), HttpStatus.CREATED));
+    }
+
+    @PostMapping("/reservations/recurring")
+    public ResponseEntity<ApiResponse<List<ReservationResponse>>> createRecurringReservation(
+            @Valid @RequestBody RecurringReservationRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        checkRateLimit(httpRequest, request.getLicensePlate());
+        var response = parkingService.createRecurringReservation(request);
+        return new ResponseEntity<>(ApiResponse.success(response), HttpStatus.CREATED);
+    }
+
+    @PostMapping("/reservations/import")
+    public ResponseEntity<ApiResponse<ImportResultResponse>> importReservations(
+            InputStream body,
+            @RequestParam(defaultValue = "CSV") BulkFormat format
+    ) throws IOException {
+        try (var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), BULK_BUFFER_SIZE)) {
+            var response = parkingService.importReservations(reader, format);
+            return new ResponseEntity<>(ApiResponse.success(response), HttpStatus.OK);
+        }
+    }
+
+    @GetMapping("/reservations/export")
+    public ResponseEntity<StreamingResponseBody> exportReservations(@RequestParam(defaultValue = "CSV") BulkFormat format) {
+        StreamingResponseBody body = out -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BULK_BUFFER_SIZE);
+            parkingService.exportReservations(writer, format);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .body(body);
+    }
+
+    @PatchMapping("/reservations/{id}")
+    public ResponseEntity<ApiResponse<ReservationResponse>> rescheduleReservation(
+            @PathVariable String id,
+            @Valid @RequestBody RescheduleRequest request
+    ) {
+        var response = parkingService.rescheduleReservation(id, request.getStartTime());
+        return new ResponseEntity<>(ApiResponse.success(response), HttpStatus.OK);
+    }
+
+    @DeleteMapping(value = "/reservations", params = "plate")
+    public ResponseEntity<ApiResponse<BulkCancelResponse>> cancelReservationsByLicensePlate(@RequestParam String plate) {
+        var response = parkingService.cancelReservationsByLicensePlate(plate);
+        return new ResponseEntity<>(ApiResponse.success(response), HttpStatus.OK);
+    }
+
+    @DeleteMapping(value = "/reservations", params = {"from", "to"})
+    public ResponseEntity<ApiResponse<BulkCancelResponse>> cancelReservationsBySlotRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        var response = parkingService.cancelReservationsBySlotRange(from, to);
+        return new ResponseEntity<>(ApiResponse.success(response), HttpStatus.OK);
+    }
+
     @DeleteMapping("/reservations/{id}")
     public ResponseEntity<ApiResponse<Void>> cancelReservation(@PathVariable String id) {
         parkingService.cancelReservation(id);
@@ -33,16 +141,172 @@ public class ParkingController {
     }
 
     @GetMapping("/reservations/{id}")
-    public ResponseEntity<ApiResponse<ReservationResponse>> getReservation(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<ReservationResponse>> getReservation(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            NativeWebRequest webRequest
+    ) {
+        var eTag = eTag(parkingService.getReservationsVersion(), webRequest);
+        // look the reservation up first, so an unknown id is a 404 whatever tag the client sends
         var response = parkingService.getReservation(id);
-        return new ResponseEntity<>(ApiResponse.success(response), HttpStatus.OK);
+        if (matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        return ok(eTag, response);
     }
 
     @GetMapping("/reservations")
-    public ResponseEntity<ApiResponse<ReservationListResponse>> getAllReservations() {
+    public ResponseEntity<ApiResponse<ReservationListResponse>> getAllReservations(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            NativeWebRequest webRequest
+    ) {
+        var eTag = eTag(parkingService.getReservationsVersion(), webRequest);
+        if (matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
         var reservations = parkingService.getAllReservations();
         var totalSpaces = parkingService.getTotalSpaces();
         var listResponse = ReservationListResponse.from(reservations, totalSpaces);
-        return new ResponseEntity<>(ApiResponse.success(listResponse), HttpStatus.OK);
+        return ok(eTag, listResponse);
+    }
+
+    @GetMapping(value = "/reservations", params = "plate")
+    public ResponseEntity<ApiResponse<List<ReservationResponse>>> getReservationsByLicensePlate(
+            @RequestParam String plate,
+            @RequestParam(defaultValue = "false") boolean includePast,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            NativeWebRequest webRequest
+    ) {
+        var eTag = eTag(parkingService.getReservationsVersion(), webRequest);
+        if (matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        // the plate index only holds reservations that have not ended; includePast reads the stored history
+        var reservations = includePast
+                ? parkingService.getReservationHistoryByLicensePlate(plate)
+                : parkingService.getReservationsByLicensePlate(plate);
+        return ok(eTag, reservations);
+    }
+
+    @GetMapping(value = "/reservations", params = "slot")
+    public ResponseEntity<ApiResponse<ReservationListResponse>> getReservationsBySlot(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime slot,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            NativeWebRequest webRequest
+    ) {
+        var eTag = eTag(parkingService.getSlotVersion(slot), webRequest);
+        if (matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        return slotResponse(slot, eTag);
+    }
+
+    @GetMapping(value = "/reservations", params = {"slot", "wait"})
+    public CompletableFuture<ResponseEntity<ApiResponse<ReservationListResponse>>> awaitReservationsBySlot(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime slot,
+            @RequestParam int wait,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            NativeWebRequest webRequest
+    ) {
+        var version = parkingService.getSlotVersion(slot);
+        var eTag = eTag(version, webRequest);
+        if (!matches(ifNoneMatch, eTag)) {
+            return CompletableFuture.completedFuture(slotResponse(slot, eTag));
+        }
+        var cbor = negotiatesCbor(webRequest);
+        var timeout = Duration.ofSeconds(Math.clamp(wait, 0, MAX_LONG_POLL_SECONDS));
+        return parkingService.awaitSlotChange(slot, version, timeout)
+                .thenApply(changed -> changed.equals(version)
+                        ? notModified(eTag)
+                        : slotResponse(slot, eTag(changed, cbor)));
+    }
+
+    @GetMapping("/spaces/free")
+    public ResponseEntity<ApiResponse<List<Integer>>> getFreeSpaces(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime slot,
+            @RequestParam(defaultValue = "false") boolean evCharging,
+            @RequestParam(defaultValue = "false") boolean accessible,
+            @RequestParam(required = false) SpaceSize size
+    ) {
+        var spaces = parkingService.getFreeSpaces(slot, new SpaceFilter(evCharging, accessible, size));
+        return new ResponseEntity<>(ApiResponse.success(spaces), HttpStatus.OK);
+    }
+
+    @PostMapping("/waitlist")
+    public ResponseEntity<ApiResponse<WaitlistResponse>> joinWaitlist(
+            @Valid @RequestBody ReservationRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        checkRateLimit(httpRequest, request.getLicensePlate());
+        var response = parkingService.joinWaitlist(request);
+        var status = response.getStatus() == WaitlistStatus.WAITING ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+        return new ResponseEntity<>(ApiResponse.success(response), status);
+    }
+
+    @GetMapping("/waitlist/{id}")
+    public ResponseEntity<ApiResponse<WaitlistResponse>> getWaitlistEntry(@PathVariable String id) {
+        var response = parkingService.getWaitlistEntry(id);
+        return new ResponseEntity<>(ApiResponse.success(response), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/waitlist/{id}")
+    public ResponseEntity<ApiResponse<Void>> leaveWaitlist(@PathVariable String id) {
+        parkingService.leaveWaitlist(id);
+        return new ResponseEntity<>(ApiResponse.success(null), HttpStatus.OK);
+    }
+
+    private void checkRateLimit(HttpServletRequest httpRequest, String licensePlate) {
+        rateLimiter.checkBookingAttempt(httpRequest.getRemoteAddr(), licensePlate);
+    }
+
+    private ResponseEntity<ApiResponse<ReservationListResponse>> slotResponse(LocalDateTime slot, String eTag) {
+        var reservations = parkingService.getReservationsBySlot(slot);
+        var listResponse = ReservationListResponse.from(reservations, parkingService.getTotalSpaces());
+        return ok(eTag, listResponse);
+    }
+
+    /**
+     * JSON and CBOR bodies of the same version differ, so each representation gets its own ETag and every
+     * cacheable response varies on {@code Accept}.
+     */
+    private String eTag(String version, NativeWebRequest webRequest) {
+        return eTag(version, negotiatesCbor(webRequest));
+    }
+
+    private static String eTag(String version, boolean cbor) {
+        return cbor ? version + CBOR_ETAG_SUFFIX : version;
+    }
+
+    /**
+     * Mirrors the converter selection: the first acceptable type decides, and JSON wins wildcards because its
+     * converter is registered first.
+     */
+    private boolean negotiatesCbor(NativeWebRequest webRequest) {
+        try {
+            for (var mediaType : contentNegotiationManager.resolveMediaTypes(webRequest)) {
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return false;
+                }
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                    return true;
+                }
+            }
+        } catch (HttpMediaTypeNotAcceptableException ex) {
+            return false;
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<ApiResponse<T>> ok(String eTag, T data) {
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(ApiResponse.success(data));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        return ifNoneMatch != null && ETag.parse(ifNoneMatch).stream()
+                .anyMatch(tag -> tag.isWildcard() || tag.tag().equals(eTag));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.example.parking.controller;
+
+import com.example.parking.model.ApiResponse;
+import com.example.parking.model.LotCapacityRequest;
+import com.example.parking.model.LotResponse;
+import com.example.parking.model.SpaceRangeRequest;
+import com.example.parking.service.contract.ParkingLotService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/parking/lot")
+public class ParkingLotController {
+
+    private final ParkingLotService parkingLotService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<LotResponse>> getLot() {
+        return new ResponseEntity<>(ApiResponse.success(parkingLotService.getLot()), HttpStatus.OK);
+    }
+
+    @PutMapping("/capacity")
+    public ResponseEntity<ApiResponse<LotResponse>> updateCapacity(@Valid @RequestBody LotCapacityRequest request) {
+        return new ResponseEntity<>(ApiResponse.success(parkingLotService.updateCapacity(request)), HttpStatus.OK);
+    }
+
+    @PostMapping("/spaces/close")
+    public ResponseEntity<ApiResponse<LotResponse>> closeSpaces(@Valid @RequestBody SpaceRangeRequest request) {
+        return new ResponseEntity<>(ApiResponse.success(parkingLotService.closeSpaces(request)), HttpStatus.OK);
+    }
+
+    @PostMapping("/spaces/open")
+    public ResponseEntity<ApiResponse<LotResponse>> openSpaces(@Valid @RequestBody SpaceRangeRequest request) {
+        return new ResponseEntity<>(ApiResponse.success(parkingLotService.openSpaces(request)), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.parking.diagnostics;
+
+import com.example.parking.model.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static com.example.parking.util.Constants.MSG_NO_RECORDING;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/parking/diagnostics")
+@ConditionalOnProperty(name = "parking.diagnostics.enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DiagnosticsController {
+
+    private final FlightRecordingManager recordingManager;
+
+    @PostMapping("/recording")
+    public ResponseEntity<ApiResponse<Boolean>> startRecording() {
+        recordingManager.start();
+        return new ResponseEntity<>(ApiResponse.success(recordingManager.isRecording()), HttpStatus.OK);
+    }
+
+    @GetMapping("/recording")
+    public ResponseEntity<ApiResponse<String>> dumpRecording() {
+        return toResponse(recordingManager.dump());
+    }
+
+    @DeleteMapping("/recording")
+    public ResponseEntity<ApiResponse<String>> stopRecording() {
+        return toResponse(recordingManager.stop());
+    }
+
+    private ResponseEntity<ApiResponse<String>> toResponse(Optional<Path> file) {
+        return file
+                .map(path -> new ResponseEntity<>(ApiResponse.success(path.toString()), HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(
+                        ApiResponse.error(MSG_NO_RECORDING, HttpStatus.NOT_FOUND.value()), HttpStatus.NOT_FOUND));
+    }
+}
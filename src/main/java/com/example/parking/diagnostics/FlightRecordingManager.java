@@ -0,0 +1,92 @@
+package com.example.parking.diagnostics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+public class FlightRecordingManager {
+
+    private static final String PROFILE = "/jfr/parking.jfc";
+    private static final String RECORDING_NAME = "parking";
+
+    private final Path recordingDirectory;
+    private final boolean recordOnStartup;
+    private final Duration maxAge;
+    private Recording recording;
+
+    public FlightRecordingManager(@Value("${parking.diagnostics.recording-dir:${java.io.tmpdir}}") String recordingDirectory,
+                                  @Value("${parking.diagnostics.record-on-startup:false}") boolean recordOnStartup,
+                                  @Value("${parking.diagnostics.max-age:1h}") Duration maxAge) {
+        this.recordingDirectory = Path.of(recordingDirectory);
+        this.recordOnStartup = recordOnStartup;
+        this.maxAge = maxAge;
+    }
+
+    @PostConstruct
+    void startOnStartup() {
+        if (recordOnStartup) {
+            start();
+        }
+    }
+
+    public synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    public synchronized void start() {
+        if (recording != null) {
+            return;
+        }
+
+        try (var reader = new InputStreamReader(
+                FlightRecordingManager.class.getResourceAsStream(PROFILE), StandardCharsets.UTF_8)) {
+            recording = new Recording(Configuration.create(reader));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (ParseException ex) {
+            throw new IllegalStateException(ex);
+        }
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.start();
+    }
+
+    public synchronized Optional<Path> dump() {
+        if (recording == null) {
+            return Optional.empty();
+        }
+        var file = recordingDirectory.resolve("parking-" + Instant.now().toEpochMilli() + ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return Optional.of(file);
+    }
+
+    @PreDestroy
+    public synchronized Optional<Path> stop() {
+        if (recording == null) {
+            return Optional.empty();
+        }
+        var file = dump();
+        recording.close();
+        recording = null;
+        return file;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.parking.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class JfrLatencyReport {
+
+    private static final List<String> ATTEMPT_PHASES =
+            List.of("lockWait", "plateCheck", "capacityQuery", "allocation", "persist", "transactionCommit");
+    private static final List<String> CANCEL_PHASES = List.of("lockWait", "transactionCommit");
+
+    private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+    private final Map<String, Long> outcomes = new TreeMap<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrLatencyReport <recording.jfr>");
+            System.exit(1);
+        }
+        var report = new JfrLatencyReport();
+        report.read(Path.of(args[0]));
+        report.print(System.out);
+    }
+
+    public void read(Path recording) throws IOException {
+        try (var file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                var event = file.readEvent();
+                switch (event.getEventType().getName()) {
+                    case ReservationAttemptEvent.NAME -> accept("attempt", event, ATTEMPT_PHASES);
+                    case ReservationCancelEvent.NAME -> accept("cancel", event, CANCEL_PHASES);
+                    default -> {
+                    }
+                }
+            }
+        }
+    }
+
+    public Map<String, LatencyHistogram> getHistograms() {
+        return histograms;
+    }
+
+    public Map<String, Long> getOutcomes() {
+        return outcomes;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-32s %10s %10s %10s %10s %10s%n", "phase", "count", "p50(us)", "p90(us)", "p99(us)", "max(us)");
+        histograms.forEach((phase, histogram) -> out.printf("%-32s %10d %10d %10d %10d %10d%n",
+                phase,
+                histogram.count(),
+                histogram.percentileMicros(50),
+                histogram.percentileMicros(90),
+                histogram.percentileMicros(99),
+                histogram.maxMicros()));
+        out.println();
+        outcomes.forEach((outcome, count) -> out.printf("%-32s %10d%n", outcome, count));
+    }
+
+    private void accept(String operation, RecordedEvent event, List<String> phases) {
+        histogram(operation + ".total").record(event.getDuration().toNanos());
+        for (var phase : phases) {
+            histogram(operation + "." + phase).record(event.getLong(phase));
+        }
+        outcomes.merge(operation + "." + event.getString("outcome"), 1L, Long::sum);
+    }
+
+    private LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+}
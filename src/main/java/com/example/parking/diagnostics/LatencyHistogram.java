@@ -0,0 +1,40 @@
+package com.example.parking.diagnostics;
+
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+    private long max;
+
+    public void record(long nanos) {
+        var micros = Math.max(0, nanos / 1_000);
+        counts[BUCKETS - Long.numberOfLeadingZeros(micros)]++;
+        total++;
+        max = Math.max(max, micros);
+    }
+
+    public long count() {
+        return total;
+    }
+
+    public long maxMicros() {
+        return max;
+    }
+
+    public long percentileMicros(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        var target = (long) Math.ceil(total * percentile / 100.0);
+        var seen = 0L;
+        for (var bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= target) {
+                return Math.min(bucket == 0 ? 0 : (1L << bucket) - 1, max);
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.parking.diagnostics;
+
+import com.example.parking.exception.ParkingFullException;
+import com.example.parking.exception.ReservationConflictException;
+import com.example.parking.exception.ReservationNotFoundException;
+import jdk.jfr.Event;
+
+public abstract class ParkingOperationEvent extends Event {
+
+    public static final String SUCCESS = "SUCCESS";
+    public static final String WAITLISTED = "WAITLISTED";
+    public static final String ROLLED_BACK = "ROLLED_BACK";
+
+    public abstract String getOutcome();
+
+    public abstract void setOutcome(String outcome);
+
+    public abstract void setLockWait(long lockWait);
+
+    public abstract void setTransactionCommit(long transactionCommit);
+
+    public static String outcomeOf(Throwable ex) {
+        if (ex instanceof ReservationConflictException) {
+            return "CONFLICT";
+        }
+        if (ex instanceof ParkingFullException) {
+            return "FULL";
+        }
+        if (ex instanceof ReservationNotFoundException) {
+            return "NOT_FOUND";
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return "INVALID";
+        }
+        return "ERROR";
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.parking.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import jdk.jfr.Timestamp;
+import lombok.Getter;
+import lombok.Setter;
+
+@Name(ReservationAttemptEvent.NAME)
+@Label("Reservation Attempt")
+@Category({"Parking", "Reservations"})
+@Description("Booking attempt with per-phase durations")
+@StackTrace(false)
+@Getter
+@Setter
+public class ReservationAttemptEvent extends ParkingOperationEvent {
+
+    public static final String NAME = "com.example.parking.ReservationAttempt";
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Lock Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    private long lockWait;
+
+    @Label("Transaction Commit")
+    @Timespan(Timespan.NANOSECONDS)
+    private long transactionCommit;
+
+    @Label("Slot Start")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    private long slotStart;
+
+    @Label("Space ID")
+    private int spaceId;
+
+    @Label("Plate Check")
+    @Timespan(Timespan.NANOSECONDS)
+    private long plateCheck;
+
+    @Label("Capacity Query")
+    @Timespan(Timespan.NANOSECONDS)
+    private long capacityQuery;
+
+    @Label("Space Allocation")
+    @Timespan(Timespan.NANOSECONDS)
+    private long allocation;
+
+    @Label("Persist")
+    @Timespan(Timespan.NANOSECONDS)
+    private long persist;
+}
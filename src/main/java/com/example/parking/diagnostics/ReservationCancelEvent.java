@@ -0,0 +1,39 @@
+package com.example.parking.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Getter;
+import lombok.Setter;
+
+@Name(ReservationCancelEvent.NAME)
+@Label("Reservation Cancel")
+@Category({"Parking", "Reservations"})
+@Description("Cancellation including waitlist promotion")
+@StackTrace(false)
+@Getter
+@Setter
+public class ReservationCancelEvent extends ParkingOperationEvent {
+
+    public static final String NAME = "com.example.parking.ReservationCancel";
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Lock Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    private long lockWait;
+
+    @Label("Transaction Commit")
+    @Timespan(Timespan.NANOSECONDS)
+    private long transactionCommit;
+
+    @Label("Reservation ID")
+    private String reservationId;
+
+    @Label("Promoted From Waitlist")
+    private int promoted;
+}
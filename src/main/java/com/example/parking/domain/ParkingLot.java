@@ -0,0 +1,181 @@
+package com.example.parking.domain;
+
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.SpaceSize;
+import com.example.parking.exception.InvalidLotLayoutException;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static com.example.parking.util.Constants.*;
+
+/**
+ * The runtime layout of the lot: size, occupancy limit, closed spaces and per-space attributes. Built from
+ * {@code parking.lot.*} and changed through the lot API; readers see one consistent layout snapshot.
+ */
+public class ParkingLot {
+
+    public static final int EV = 1;
+    public static final int ACCESSIBLE = 1 << 1;
+
+    private static final int SIZE_SHIFT = 2;
+    private static final int SIZE_MASK = 0b11 << SIZE_SHIFT;
+    private static final byte DEFAULT_ATTRIBUTES = (byte) (SpaceSize.STANDARD.ordinal() << SIZE_SHIFT);
+
+    private record Layout(int totalSpaces, double maxOccupancy, byte[] attributes, BitSet closed,
+                          BitSet withoutEv, BitSet notAccessible, BitSet[] otherSizes) {
+
+        private Layout(int totalSpaces, double maxOccupancy, byte[] attributes, BitSet closed) {
+            this(totalSpaces, maxOccupancy, attributes, closed,
+                    missing(attributes, totalSpaces, EV), missing(attributes, totalSpaces, ACCESSIBLE),
+                    otherSizes(attributes, totalSpaces));
+        }
+
+        private static BitSet missing(byte[] attributes, int totalSpaces, int attribute) {
+            var spaces = new BitSet(totalSpaces + 1);
+            for (var spaceId = 1; spaceId <= totalSpaces; spaceId++) {
+                if ((attributes[spaceId] & attribute) == 0) {
+                    spaces.set(spaceId);
+                }
+            }
+            return spaces;
+        }
+
+        private static BitSet[] otherSizes(byte[] attributes, int totalSpaces) {
+            var sizes = SpaceSize.values();
+            var otherSizes = new BitSet[sizes.length];
+            for (var size : sizes) {
+                otherSizes[size.ordinal()] = new BitSet(totalSpaces + 1);
+            }
+            for (var spaceId = 1; spaceId <= totalSpaces; spaceId++) {
+                var size = (attributes[spaceId] & SIZE_MASK) >>> SIZE_SHIFT;
+                for (var other : sizes) {
+                    if (other.ordinal() != size) {
+                        otherSizes[other.ordinal()].set(spaceId);
+                    }
+                }
+            }
+            return otherSizes;
+        }
+    }
+
+    private volatile Layout layout;
+
+    public ParkingLot(int totalSpaces, double maxOccupancy) {
+        validate(totalSpaces, maxOccupancy);
+        var attributes = new byte[totalSpaces + 1];
+        Arrays.fill(attributes, DEFAULT_ATTRIBUTES);
+        this.layout = new Layout(totalSpaces, maxOccupancy, attributes, new BitSet(totalSpaces + 1));
+    }
+
+    public int getTotalSpaces() {
+        return layout.totalSpaces();
+    }
+
+    public double getMaxOccupancy() {
+        return layout.maxOccupancy();
+    }
+
+    public int getOpenSpaces() {
+        var current = layout;
+        return current.totalSpaces() - current.closed().cardinality();
+    }
+
+    public int getMaxReservations() {
+        var current = layout;
+        return (int) ((current.totalSpaces() - current.closed().cardinality()) * current.maxOccupancy());
+    }
+
+    public boolean isClosed(int spaceId) {
+        return layout.closed().get(spaceId);
+    }
+
+    public void excludeClosed(BitSet occupiedSpaces) {
+        occupiedSpaces.or(layout.closed());
+    }
+
+    public void excludeUnavailable(BitSet occupiedSpaces, SpaceFilter filter) {
+        var current = layout;
+        occupiedSpaces.or(current.closed());
+        if (filter.evCharging()) {
+            occupiedSpaces.or(current.withoutEv());
+        }
+        if (filter.accessible()) {
+            occupiedSpaces.or(current.notAccessible());
+        }
+        if (filter.size() != null) {
+            occupiedSpaces.or(current.otherSizes()[filter.size().ordinal()]);
+        }
+    }
+
+    public boolean matches(int spaceId, SpaceFilter filter) {
+        return (!filter.evCharging() || hasAttribute(spaceId, EV))
+                && (!filter.accessible() || hasAttribute(spaceId, ACCESSIBLE))
+                && (filter.size() == null || getSize(spaceId) == filter.size());
+    }
+
+    public boolean hasAttribute(int spaceId, int attribute) {
+        var attributes = layout.attributes();
+        return spaceId < attributes.length && (attributes[spaceId] & attribute) != 0;
+    }
+
+    public SpaceSize getSize(int spaceId) {
+        var attributes = layout.attributes();
+        var bits = spaceId < attributes.length ? attributes[spaceId] : DEFAULT_ATTRIBUTES;
+        return SpaceSize.values()[(bits & SIZE_MASK) >>> SIZE_SHIFT];
+    }
+
+    public synchronized void resize(int totalSpaces, double maxOccupancy) {
+        validate(totalSpaces, maxOccupancy);
+        var current = layout;
+        var attributes = Arrays.copyOf(current.attributes(), totalSpaces + 1);
+        if (totalSpaces > current.totalSpaces()) {
+            Arrays.fill(attributes, current.totalSpaces() + 1, totalSpaces + 1, DEFAULT_ATTRIBUTES);
+        }
+        var closed = current.closed().get(0, totalSpaces + 1);
+        layout = new Layout(totalSpaces, maxOccupancy, attributes, closed);
+    }
+
+    public synchronized void setClosed(int fromSpaceId, int toSpaceId, boolean closed) {
+        var current = layout;
+        checkRange(current, fromSpaceId, toSpaceId);
+        var updated = (BitSet) current.closed().clone();
+        updated.set(fromSpaceId, toSpaceId + 1, closed);
+        layout = new Layout(current.totalSpaces(), current.maxOccupancy(), current.attributes(), updated);
+    }
+
+    public synchronized void setAttribute(int fromSpaceId, int toSpaceId, int attribute, boolean enabled) {
+        var current = layout;
+        checkRange(current, fromSpaceId, toSpaceId);
+        var attributes = current.attributes().clone();
+        for (var spaceId = fromSpaceId; spaceId <= toSpaceId; spaceId++) {
+            attributes[spaceId] = (byte) (enabled ? attributes[spaceId] | attribute : attributes[spaceId] & ~attribute);
+        }
+        layout = new Layout(current.totalSpaces(), current.maxOccupancy(), attributes, current.closed());
+    }
+
+    public synchronized void setSize(int fromSpaceId, int toSpaceId, SpaceSize size) {
+        var current = layout;
+        checkRange(current, fromSpaceId, toSpaceId);
+        var attributes = current.attributes().clone();
+        for (var spaceId = fromSpaceId; spaceId <= toSpaceId; spaceId++) {
+            attributes[spaceId] = (byte) ((attributes[spaceId] & ~SIZE_MASK) | (size.ordinal() << SIZE_SHIFT));
+        }
+        layout = new Layout(current.totalSpaces(), current.maxOccupancy(), attributes, current.closed());
+    }
+
+    private static void validate(int totalSpaces, double maxOccupancy) {
+        if (totalSpaces < 1) {
+            throw new InvalidLotLayoutException(MSG_INVALID_TOTAL_SPACES + totalSpaces);
+        }
+        if (maxOccupancy <= 0 || maxOccupancy > 1) {
+            throw new InvalidLotLayoutException(MSG_INVALID_MAX_OCCUPANCY + maxOccupancy);
+        }
+    }
+
+    private static void checkRange(Layout layout, int fromSpaceId, int toSpaceId) {
+        if (fromSpaceId < 1 || toSpaceId > layout.totalSpaces() || fromSpaceId > toSpaceId) {
+            throw new InvalidLotLayoutException(MSG_INVALID_SPACE_RANGE + fromSpaceId + "-" + toSpaceId);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.parking.entity;
+
+public enum ChangeType {
+    CREATED,
+    RESCHEDULED,
+    CANCELLED
+}
@@ -0,0 +1,6 @@
+package com.example.parking.entity;
+
+import java.time.Instant;
+
+public record OccupiedSpace(String reservationId, Instant startTime, int spaceId) {
+}
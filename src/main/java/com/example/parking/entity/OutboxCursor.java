@@ -0,0 +1,22 @@
+package com.example.parking.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The last change position a relay has handed to its sink, so delivery resumes there after a restart.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_cursors")
+public class OutboxCursor {
+    @Id
+    private String name;
+    private long position;
+}
@@ -1,25 +1,58 @@
 package com.example.parking.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
 
+import static com.example.parking.util.PartitionUtil.partitionOf;
+
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
-@Table(name = "parking_reservations")
-public class ParkingReservation {
+@Table(name = "parking_reservations", indexes = @Index(columnList = "partitionDay, startTime"))
+public class ParkingReservation implements Persistable<String> {
     @Id
     private String id;
     private int spaceId;
     private Instant startTime;
     private Instant endTime;
     private String licensePlate;
+    private boolean evCharging;
+    private boolean accessible;
+    @Enumerated(EnumType.STRING)
+    private SpaceSize size;
+
+    @Setter(AccessLevel.NONE)
+    private long partitionDay;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntity = true;
 
     public ParkingReservation(int spaceId, Instant startTime, Instant endTime, String licensePlate) {
         this.id = UUID.randomUUID().toString();
@@ -27,6 +60,7 @@ public class ParkingReservation {
         this.startTime = startTime;
         this.endTime = endTime;
         this.licensePlate = licensePlate;
+        this.partitionDay = partitionOf(startTime);
     }
 
     public ParkingReservation(String id, int spaceId, Instant startTime, Instant endTime, String licensePlate) {
@@ -35,5 +69,47 @@ public class ParkingReservation {
         this.startTime = startTime;
         this.endTime = endTime;
         this.licensePlate = licensePlate;
+        this.partitionDay = partitionOf(startTime);
+    }
+
+    public ParkingReservation(int spaceId, Instant startTime, Instant endTime, String licensePlate,
+                              SpaceFilter filter) {
+        this(spaceId, startTime, endTime, licensePlate);
+        applyFilter(filter);
+    }
+
+    public ParkingReservation(String id, int spaceId, Instant startTime, Instant endTime, String licensePlate,
+                              SpaceFilter filter) {
+        this(id, spaceId, startTime, endTime, licensePlate);
+        applyFilter(filter);
+    }
+
+    /**
+     * The space requirements the reservation was booked with, so a reschedule keeps to them.
+     */
+    public SpaceFilter toSpaceFilter() {
+        return new SpaceFilter(evCharging, accessible, size);
+    }
+
+    private void applyFilter(SpaceFilter filter) {
+        this.evCharging = filter.evCharging();
+        this.accessible = filter.accessible();
+        this.size = filter.size();
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+        this.partitionDay = partitionOf(startTime);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
     }
-}
\ No newline at end of file
+}
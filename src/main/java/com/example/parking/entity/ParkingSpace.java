@@ -1,10 +0,0 @@
-package com.example.parking.entity;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-
-@Data
-@AllArgsConstructor
-public class ParkingSpace {
-    private final int id;
-}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.parking.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "reservation_changes", indexes = @Index(columnList = "position", unique = true))
+public class ReservationChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "position")
+    private Long position;
+    @Enumerated(EnumType.STRING)
+    private ChangeType type;
+    private String reservationId;
+    private int spaceId;
+    private Instant startTime;
+    private Instant endTime;
+    private String licensePlate;
+    private Instant occurredAt;
+}
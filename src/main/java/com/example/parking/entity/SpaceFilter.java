@@ -0,0 +1,10 @@
+package com.example.parking.entity;
+
+public record SpaceFilter(boolean evCharging, boolean accessible, SpaceSize size) {
+
+    public static final SpaceFilter ANY = new SpaceFilter(false, false, null);
+
+    public boolean isAny() {
+        return !evCharging && !accessible && size == null;
+    }
+}
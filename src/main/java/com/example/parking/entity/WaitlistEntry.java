@@ -0,0 +1,70 @@
+package com.example.parking.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "parking_waitlist", indexes = @Index(columnList = "status, startTime"))
+public class WaitlistEntry {
+    @Id
+    private String id;
+    private Instant startTime;
+    private Instant endTime;
+    private String licensePlate;
+    private Instant createdAt;
+    @Enumerated(EnumType.STRING)
+    private WaitlistStatus status;
+    private String reservationId;
+    private boolean evCharging;
+    private boolean accessible;
+    @Enumerated(EnumType.STRING)
+    private SpaceSize size;
+
+    public WaitlistEntry(Instant startTime, Instant endTime, String licensePlate, SpaceFilter filter) {
+        this(startTime, endTime, licensePlate);
+        this.evCharging = filter.evCharging();
+        this.accessible = filter.accessible();
+        this.size = filter.size();
+    }
+
+    public WaitlistEntry(Instant startTime, Instant endTime, String licensePlate) {
+        this.id = UUID.randomUUID().toString();
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.licensePlate = licensePlate;
+        this.createdAt = Instant.now();
+        this.status = WaitlistStatus.WAITING;
+    }
+
+    public SpaceFilter toSpaceFilter() {
+        return new SpaceFilter(evCharging, accessible, size);
+    }
+
+    public void promote(String reservationId) {
+        this.status = WaitlistStatus.PROMOTED;
+        this.reservationId = reservationId;
+    }
+
+    /**
+     * Whether the entry is expired at {@code now}, including a waiting entry whose slot has started but that
+     * has not been marked yet. Entries are only marked by a promotion pass, under the booking serialization.
+     */
+    public boolean isExpiredAt(Instant now) {
+        return status == WaitlistStatus.EXPIRED || status == WaitlistStatus.WAITING && startTime.isBefore(now);
+    }
+
+    public void expire() {
+        this.status = WaitlistStatus.EXPIRED;
+    }
+}
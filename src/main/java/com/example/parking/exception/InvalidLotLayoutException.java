@@ -0,0 +1,7 @@
+package com.example.parking.exception;
+
+public class InvalidLotLayoutException extends RuntimeException {
+    public InvalidLotLayoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.parking.exception;
+
+public class InvalidSlotRangeException extends RuntimeException {
+    public InvalidSlotRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.parking.handler;
+
+import com.example.parking.model.ApiResponse;
+import com.example.parking.model.CompactReservation;
+import com.example.parking.model.CompactReservationList;
+import com.example.parking.model.ReservationListResponse;
+import com.example.parking.model.ReservationResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.List;
+
+/**
+ * When a client negotiates {@code application/cbor}, swaps reservation payloads for their compact forms:
+ * single reservations become {@link CompactReservation}, lists become the columnar {@link CompactReservationList}.
+ * JSON responses are untouched.
+ */
+@RestControllerAdvice
+public class CompactResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2CborHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse<?> apiResponse) || apiResponse.getData() == null) {
+            return body;
+        }
+        return new ApiResponse<>(apiResponse.getStatus(), compact(apiResponse.getData(), returnType),
+                apiResponse.getError(), apiResponse.getTimestamp());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object compact(Object data, MethodParameter returnType) {
+        if (data instanceof ReservationResponse reservation) {
+            return CompactReservation.from(reservation);
+        }
+        if (data instanceof ReservationListResponse list) {
+            return CompactReservationList.from(list);
+        }
+        if (data instanceof List<?> list && returnsReservationList(returnType)) {
+            return CompactReservationList.from((List<ReservationResponse>) list);
+        }
+        return data;
+    }
+
+    /**
+     * Element types are erased from the list itself (and an empty one has no element to look at),
+     * so the declared {@code ApiResponse<List<ReservationResponse>>} is read through any
+     * {@code ResponseEntity} or {@code CompletableFuture} around it.
+     */
+    private static boolean returnsReservationList(MethodParameter returnType) {
+        var type = ResolvableType.forMethodParameter(returnType);
+        while (type.resolve() != ApiResponse.class && type.hasGenerics()) {
+            type = type.getGeneric();
+        }
+        var data = type.getGeneric();
+        return data.resolve() == List.class && data.getGeneric().resolve() == ReservationResponse.class;
+    }
+}
@@ -1,15 +1,22 @@
 package com.example.parking.handler;
 
+import com.example.parking.exception.InvalidLotLayoutException;
+import com.example.parking.exception.InvalidSlotRangeException;
 import com.example.parking.exception.ParkingFullException;
+import com.example.parking.exception.RateLimitExceededException;
 import com.example.parking.exception.ReservationConflictException;
 import com.example.parking.exception.ReservationNotFoundException;
+import com.example.parking.exception.WaitlistEntryNotFoundException;
 import com.example.parking.model.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.util.HashMap;
 
@@ -27,6 +34,14 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRateLimitExceededException(RateLimitExceededException ex) {
+        var retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(ApiResponse.error(ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS.value()));
+    }
+
     @ExceptionHandler(ReservationNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleReservationNotFoundException(ReservationNotFoundException ex) {
         return new ResponseEntity<>(
@@ -35,10 +50,43 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(WaitlistEntryNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleWaitlistEntryNotFoundException(WaitlistEntryNotFoundException ex) {
+        return new ResponseEntity<>(
+                ApiResponse.error(ex.getMessage(), HttpStatus.NOT_FOUND.value()),
+                HttpStatus.NOT_FOUND
+        );
+    }
+
+    @ExceptionHandler(InvalidLotLayoutException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidLotLayoutException(InvalidLotLayoutException ex) {
+        return new ResponseEntity<>(
+                ApiResponse.error(ex.getMessage(), HttpStatus.BAD_REQUEST.value()),
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
+    @ExceptionHandler(InvalidSlotRangeException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidSlotRangeException(InvalidSlotRangeException ex) {
+        return new ResponseEntity<>(
+                ApiResponse.error(ex.getMessage(), HttpStatus.BAD_REQUEST.value()),
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        return toValidationError(ex.getBindingResult());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResponse<Void>> handleReactiveValidationExceptions(WebExchangeBindException ex) {
+        return toValidationError(ex.getBindingResult());
+    }
+
+    private ResponseEntity<ApiResponse<Void>> toValidationError(BindingResult bindingResult) {
         var errors = new HashMap<String, String>();
-        ex.getBindingResult().getAllErrors().forEach(error -> {
+        bindingResult.getAllErrors().forEach(error -> {
             var fieldName = ((FieldError) error).getField();
             var errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
@@ -0,0 +1,135 @@
+package com.example.parking.mapper;
+
+import com.example.parking.model.BulkFormat;
+import com.example.parking.model.ReservationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static com.example.parking.util.Constants.MSG_IMPORT_MALFORMED_LINE;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationBulkCodec {
+
+    public static final String CSV_HEADER = "reservationId,spaceId,startTime,endTime,licensePlate";
+
+    private static final int CSV_COLUMNS = 5;
+
+    private final ObjectMapper objectMapper;
+
+    public boolean isHeader(String line, BulkFormat format) {
+        return format == BulkFormat.CSV && line.startsWith(CSV_HEADER);
+    }
+
+    public ReservationResponse parse(String line, BulkFormat format) {
+        return format == BulkFormat.CSV ? parseCsv(line) : parseJson(line);
+    }
+
+    public String format(ReservationResponse reservation, BulkFormat format) {
+        return format == BulkFormat.CSV ? formatCsv(reservation) : formatJson(reservation);
+    }
+
+    private ReservationResponse parseCsv(String line) {
+        var columns = line.indexOf('"') < 0 ? line.split(",", -1) : splitQuoted(line);
+        if (columns.length != CSV_COLUMNS) {
+            throw new IllegalArgumentException(MSG_IMPORT_MALFORMED_LINE);
+        }
+
+        try {
+            return new ReservationResponse(
+                    blankToNull(columns[0]),
+                    columns[1].isBlank() ? 0 : Integer.parseInt(columns[1].trim()),
+                    columns[2].isBlank() ? null : LocalDateTime.parse(columns[2].trim()),
+                    columns[3].isBlank() ? null : LocalDateTime.parse(columns[3].trim()),
+                    blankToNull(columns[4])
+            );
+        } catch (NumberFormatException | DateTimeException ex) {
+            throw new IllegalArgumentException(MSG_IMPORT_MALFORMED_LINE);
+        }
+    }
+
+    private ReservationResponse parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, ReservationResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(MSG_IMPORT_MALFORMED_LINE);
+        }
+    }
+
+    private String formatCsv(ReservationResponse reservation) {
+        return quote(reservation.getReservationId()) + ','
+                + reservation.getSpaceId() + ','
+                + reservation.getStartTime() + ','
+                + reservation.getEndTime() + ','
+                + quote(reservation.getLicensePlate());
+    }
+
+    /**
+     * Splits a line with RFC 4180 quoting: a field starting with {@code "} runs to the next lone quote and
+     * {@code ""} inside it stands for one quote. Fields spanning lines are not supported.
+     */
+    private static String[] splitQuoted(String line) {
+        var columns = new ArrayList<String>(CSV_COLUMNS);
+        var column = new StringBuilder();
+        var quoted = false;
+        for (var i = 0; i < line.length(); i++) {
+            var c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    column.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && column.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException(MSG_IMPORT_MALFORMED_LINE);
+        }
+        columns.add(column.toString());
+        return columns.toArray(String[]::new);
+    }
+
+    private static String quote(String value) {
+        if (value == null || !containsAny(value, ",\"\r\n")) {
+            return String.valueOf(value);
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean containsAny(String value, String characters) {
+        for (var i = 0; i < characters.length(); i++) {
+            if (value.indexOf(characters.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String formatJson(ReservationResponse reservation) {
+        try {
+            return objectMapper.writeValueAsString(reservation);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value.isBlank() ? null : value.trim();
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.parking.mapper;
 
 import com.example.parking.entity.ParkingReservation;
+import com.example.parking.entity.ReservationChange;
+import com.example.parking.entity.WaitlistEntry;
+import com.example.parking.model.ReservationChangeResponse;
 import com.example.parking.model.ReservationResponse;
+import com.example.parking.model.WaitlistResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -18,6 +22,17 @@ public interface ReservationMapper {
     @Mapping(source = "endTime", target = "endTime", qualifiedByName = "instantToLocalDateTime")
     ReservationResponse toResponse(ParkingReservation reservation);
 
+    @Mapping(source = "id", target = "entryId")
+    @Mapping(source = "startTime", target = "startTime", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(source = "endTime", target = "endTime", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(target = "position", ignore = true)
+    WaitlistResponse toWaitlistResponse(WaitlistEntry entry);
+
+    @Mapping(source = "startTime", target = "startTime", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(source = "endTime", target = "endTime", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(source = "occurredAt", target = "occurredAt", qualifiedByName = "instantToLocalDateTime")
+    ReservationChangeResponse toChangeResponse(ReservationChange change);
+
     @Named("instantToLocalDateTime")
     default LocalDateTime instantToLocalDateTime(Instant instant) {
         return instant == null ? null : LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
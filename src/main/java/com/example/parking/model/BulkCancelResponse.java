@@ -0,0 +1,12 @@
+package com.example.parking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkCancelResponse {
+
+    private final int cancelled;
+    private final int promoted;
+}
@@ -0,0 +1,18 @@
+package com.example.parking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ChangeFeedResponse {
+
+    private final List<ReservationChangeResponse> changes;
+    private final long nextCursor;
+
+    public static ChangeFeedResponse from(List<ReservationChangeResponse> changes, long since) {
+        return new ChangeFeedResponse(changes, changes.isEmpty() ? since : changes.getLast().getPosition());
+    }
+}
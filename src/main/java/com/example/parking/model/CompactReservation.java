@@ -0,0 +1,49 @@
+package com.example.parking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Binary-wire form of {@link ReservationResponse}: times are epoch seconds and the id is its 16 raw UUID
+ * bytes. Imported reservations may carry ids that are not UUIDs; those stay text.
+ */
+@Getter
+@AllArgsConstructor
+public class CompactReservation {
+
+    private final Object id;
+    private final int spaceId;
+    private final long startTime;
+    private final long endTime;
+    private final String licensePlate;
+
+    public static CompactReservation from(ReservationResponse reservation) {
+        return new CompactReservation(
+                encodeId(reservation.getReservationId()),
+                reservation.getSpaceId(),
+                reservation.getStartTime().atZone(ZoneId.systemDefault()).toEpochSecond(),
+                reservation.getEndTime().atZone(ZoneId.systemDefault()).toEpochSecond(),
+                reservation.getLicensePlate()
+        );
+    }
+
+    static Object encodeId(String id) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException ex) {
+            return id;
+        }
+        if (!uuid.toString().equals(id)) {
+            return id;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
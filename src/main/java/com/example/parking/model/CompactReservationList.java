@@ -0,0 +1,56 @@
+package com.example.parking.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Columnar binary-wire form of a reservation list: one array per field instead of one object per
+ * reservation, so field names are written once and each column packs as a homogeneous CBOR array.
+ * Row {@code i} is {@code ids[i], spaceIds[i], startTimes[i], endTimes[i], licensePlates[i]}.
+ * {@code availableSpaces} is only present for lot and slot listings.
+ */
+@Getter
+@AllArgsConstructor
+public class CompactReservationList {
+
+    private final List<Object> ids;
+    private final int[] spaceIds;
+    private final long[] startTimes;
+    private final long[] endTimes;
+    private final List<String> licensePlates;
+    private final int total;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer availableSpaces;
+
+    public static CompactReservationList from(ReservationListResponse list) {
+        return from(list.getReservations(), list.getTotal(), list.getAvailableSpaces());
+    }
+
+    public static CompactReservationList from(List<ReservationResponse> reservations) {
+        return from(reservations, reservations.size(), null);
+    }
+
+    private static CompactReservationList from(List<ReservationResponse> reservations, int total, Integer availableSpaces) {
+        var size = reservations.size();
+        var ids = new ArrayList<>(size);
+        var spaceIds = new int[size];
+        var startTimes = new long[size];
+        var endTimes = new long[size];
+        var licensePlates = new ArrayList<String>(size);
+        var zone = ZoneId.systemDefault();
+        for (var i = 0; i < size; i++) {
+            var reservation = reservations.get(i);
+            ids.add(CompactReservation.encodeId(reservation.getReservationId()));
+            spaceIds[i] = reservation.getSpaceId();
+            startTimes[i] = reservation.getStartTime().atZone(zone).toEpochSecond();
+            endTimes[i] = reservation.getEndTime().atZone(zone).toEpochSecond();
+            licensePlates.add(reservation.getLicensePlate());
+        }
+        return new CompactReservationList(ids, spaceIds, startTimes, endTimes, licensePlates, total, availableSpaces);
+    }
+}
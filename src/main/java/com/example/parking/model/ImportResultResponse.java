@@ -0,0 +1,22 @@
+package com.example.parking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ImportResultResponse {
+
+    private final long imported;
+    private final long rejected;
+    private final List<ImportError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImportError {
+        private final long line;
+        private final String message;
+    }
+}
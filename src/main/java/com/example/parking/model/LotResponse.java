@@ -0,0 +1,14 @@
+package com.example.parking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LotResponse {
+
+    private final int totalSpaces;
+    private final int openSpaces;
+    private final double maxOccupancy;
+    private final int maxReservations;
+}
@@ -0,0 +1,47 @@
+package com.example.parking.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+
+public enum Recurrence {
+
+    DAILY {
+        @Override
+        public LocalDateTime next(LocalDateTime time) {
+            return time.plusDays(1);
+        }
+    },
+    WEEKDAYS {
+        @Override
+        public LocalDateTime first(LocalDateTime start) {
+            return skipWeekend(start);
+        }
+
+        @Override
+        public LocalDateTime next(LocalDateTime time) {
+            return skipWeekend(time.plusDays(1));
+        }
+    },
+    WEEKLY {
+        @Override
+        public LocalDateTime next(LocalDateTime time) {
+            return time.plusWeeks(1);
+        }
+    };
+
+    /**
+     * The first occurrence for a requested start; a weekday series starting on a weekend begins the next Monday.
+     */
+    public LocalDateTime first(LocalDateTime start) {
+        return start;
+    }
+
+    public abstract LocalDateTime next(LocalDateTime time);
+
+    private static LocalDateTime skipWeekend(LocalDateTime time) {
+        while (time.getDayOfWeek() == DayOfWeek.SATURDAY || time.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            time = time.plusDays(1);
+        }
+        return time;
+    }
+}
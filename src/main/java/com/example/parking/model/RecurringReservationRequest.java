@@ -0,0 +1,28 @@
+package com.example.parking.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static com.example.parking.util.Constants.MAX_RECURRING_OCCURRENCES;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringReservationRequest {
+
+    @NotNull
+    private LocalDateTime startTime;
+    @NotNull
+    private String licensePlate;
+    @NotNull
+    private Recurrence recurrence;
+    @Min(1)
+    @Max(MAX_RECURRING_OCCURRENCES)
+    private int count;
+}
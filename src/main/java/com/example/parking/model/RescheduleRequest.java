@@ -0,0 +1,17 @@
+package com.example.parking.model;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescheduleRequest {
+
+    @NotNull
+    private LocalDateTime startTime;
+}
@@ -0,0 +1,22 @@
+package com.example.parking.model;
+
+import com.example.parking.entity.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationChangeResponse {
+    private long position;
+    private ChangeType type;
+    private String reservationId;
+    private int spaceId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String licensePlate;
+    private LocalDateTime occurredAt;
+}
@@ -1,5 +1,7 @@
 package com.example.parking.model;
 
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.SpaceSize;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,4 +15,15 @@ public class ReservationRequest {
 
     private LocalDateTime startTime;
     private String licensePlate;
+    private boolean evCharging;
+    private boolean accessible;
+    private SpaceSize size;
+
+    public ReservationRequest(LocalDateTime startTime, String licensePlate) {
+        this(startTime, licensePlate, false, false, null);
+    }
+
+    public SpaceFilter toSpaceFilter() {
+        return new SpaceFilter(evCharging, accessible, size);
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.parking.model;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceRangeRequest {
+
+    @Min(1)
+    private int fromSpaceId;
+    @Min(1)
+    private int toSpaceId;
+}
@@ -0,0 +1,21 @@
+package com.example.parking.model;
+
+import com.example.parking.entity.WaitlistStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistResponse {
+    private String entryId;
+    private WaitlistStatus status;
+    private long position;
+    private String reservationId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String licensePlate;
+}
@@ -0,0 +1,54 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.entity.WaitlistEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcReservationJournal implements ReservationJournal {
+
+    private final ReservationBatchRepository batchRepository;
+    private final WaitlistEntryRepository waitlistRepository;
+    private final ReservationOutbox outbox;
+
+    @Override
+    public List<ParkingReservation> loadReservations() {
+        var reservations = new ArrayList<ParkingReservation>();
+        batchRepository.forEach(reservations::add);
+        return reservations;
+    }
+
+    @Override
+    public List<WaitlistEntry> loadWaitlist() {
+        return waitlistRepository.findAll();
+    }
+
+    @Override
+    @Transactional
+    public void write(Collection<ParkingReservation> insertedReservations, Collection<String> deletedReservationIds,
+                      Collection<WaitlistEntry> savedWaitlistEntries, Collection<String> deletedWaitlistEntryIds,
+                      Collection<ReservationOutbox.Change> changes) {
+        if (!deletedReservationIds.isEmpty()) {
+            batchRepository.deleteAllById(List.copyOf(deletedReservationIds));
+        }
+        if (!insertedReservations.isEmpty()) {
+            batchRepository.insertAll(List.copyOf(insertedReservations));
+        }
+        if (!deletedWaitlistEntryIds.isEmpty()) {
+            waitlistRepository.deleteAllById(deletedWaitlistEntryIds);
+        }
+        if (!savedWaitlistEntries.isEmpty()) {
+            waitlistRepository.saveAll(savedWaitlistEntries);
+        }
+        if (!changes.isEmpty()) {
+            outbox.recordAll(changes);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.OutboxCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxCursorRepository extends JpaRepository<OutboxCursor, String> {
+
+    /**
+     * Moves an existing cursor forward; an older position never overwrites a newer one.
+     */
+    @Modifying
+    @Query("UPDATE OutboxCursor c SET c.position = :position WHERE c.name = :name AND c.position < :position")
+    int advance(@Param("name") String name, @Param("position") long position);
+}
@@ -1,48 +1,165 @@
 package com.example.parking.repository;
 
+import com.example.parking.entity.OccupiedSpace;
 import com.example.parking.entity.ParkingReservation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.List;
 
+import static com.example.parking.util.LicensePlateUtil.normalize;
+import static com.example.parking.util.PartitionUtil.firstPartitionOverlapping;
+import static com.example.parking.util.PartitionUtil.lastPartitionOverlapping;
+import static com.example.parking.util.PartitionUtil.partitionOf;
+
+/**
+ * Time-based lookups are routed to the day partitions that can hold a match (see
+ * {@link com.example.parking.util.PartitionUtil}), so they range-scan the {@code (partitionDay, startTime)}
+ * index instead of the whole reservation history.
+ */
 @Repository
 public interface ParkingReservationRepository extends JpaRepository<ParkingReservation, String> {
 
+    default List<ParkingReservation> findAllByTimeRange(Instant startTime, Instant endTime) {
+        return findAllByTimeRange(firstPartitionOverlapping(startTime), lastPartitionOverlapping(endTime),
+                startTime, endTime);
+    }
+
+    default List<ParkingReservation> findAllStartingBetween(Instant from, Instant to) {
+        return findAllStartingBetween(partitionOf(from), partitionOf(to), from, to);
+    }
+
+    default List<Integer> findSpaceIdsByTimeRange(Instant startTime, Instant endTime) {
+        return findSpaceIdsByTimeRange(firstPartitionOverlapping(startTime), lastPartitionOverlapping(endTime),
+                startTime, endTime);
+    }
+
+    default List<OccupiedSpace> findOccupiedSpacesByTimeRange(Instant startTime, Instant endTime) {
+        return findOccupiedSpacesByTimeRange(firstPartitionOverlapping(startTime), lastPartitionOverlapping(endTime),
+                startTime, endTime);
+    }
+
+    default long countByTimeRange(Instant startTime, Instant endTime) {
+        return countByTimeRange(firstPartitionOverlapping(startTime), lastPartitionOverlapping(endTime),
+                startTime, endTime);
+    }
+
+    default boolean existsBySpaceIdAndTimeRange(int spaceId, Instant startTime, Instant endTime) {
+        return existsBySpaceIdAndTimeRange(firstPartitionOverlapping(startTime), lastPartitionOverlapping(endTime),
+                spaceId, startTime, endTime);
+    }
+
+    default List<ParkingReservation> findAllByLicensePlate(String licensePlate) {
+        return findAllByNormalizedLicensePlate(normalize(licensePlate));
+    }
+
+    default List<ParkingReservation> findAllEndingAfter(Instant time) {
+        return findAllEndingAfter(firstPartitionOverlapping(time), time);
+    }
+
+    default List<OccupiedSpace> findOccupiedSpacesEndingAfter(Instant time) {
+        return findOccupiedSpacesEndingAfter(firstPartitionOverlapping(time), time);
+    }
+
     @Query("""
             SELECT r FROM ParkingReservation r
-            WHERE (r.startTime < :endTime AND r.endTime > :startTime)
+            WHERE r.partitionDay BETWEEN :firstPartition AND :lastPartition
+            AND (r.startTime < :endTime AND r.endTime > :startTime)
             """)
-    List<ParkingReservation> findAllByTimeRange(@Param("startTime") Instant startTime,
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ParkingReservation> findAllByTimeRange(@Param("firstPartition") long firstPartition,
+                                                @Param("lastPartition") long lastPartition,
+                                                @Param("startTime") Instant startTime,
                                                 @Param("endTime") Instant endTime);
 
+    @Query("""
+            SELECT r FROM ParkingReservation r
+            WHERE r.partitionDay BETWEEN :firstPartition AND :lastPartition
+            AND r.startTime >= :from AND r.startTime < :to
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ParkingReservation> findAllStartingBetween(@Param("firstPartition") long firstPartition,
+                                                    @Param("lastPartition") long lastPartition,
+                                                    @Param("from") Instant from,
+                                                    @Param("to") Instant to);
+
+    @Query("""
+            SELECT r.spaceId FROM ParkingReservation r
+            WHERE r.partitionDay BETWEEN :firstPartition AND :lastPartition
+            AND (r.startTime < :endTime AND r.endTime > :startTime)
+            """)
+    List<Integer> findSpaceIdsByTimeRange(@Param("firstPartition") long firstPartition,
+                                          @Param("lastPartition") long lastPartition,
+                                          @Param("startTime") Instant startTime,
+                                          @Param("endTime") Instant endTime);
+
+    @Query("""
+            SELECT new com.example.parking.entity.OccupiedSpace(r.id, r.startTime, r.spaceId)
+            FROM ParkingReservation r
+            WHERE r.partitionDay BETWEEN :firstPartition AND :lastPartition
+            AND (r.startTime < :endTime AND r.endTime > :startTime)
+            """)
+    List<OccupiedSpace> findOccupiedSpacesByTimeRange(@Param("firstPartition") long firstPartition,
+                                                      @Param("lastPartition") long lastPartition,
+                                                      @Param("startTime") Instant startTime,
+                                                      @Param("endTime") Instant endTime);
+
     @Query("""
             SELECT COUNT(r) FROM ParkingReservation r
-            WHERE (r.startTime < :endTime
+            WHERE r.partitionDay BETWEEN :firstPartition AND :lastPartition
+            AND (r.startTime < :endTime
             AND r.endTime > :startTime)
             """)
-    long countByTimeRange(@Param("startTime") Instant startTime,
+    long countByTimeRange(@Param("firstPartition") long firstPartition,
+                          @Param("lastPartition") long lastPartition,
+                          @Param("startTime") Instant startTime,
                           @Param("endTime") Instant endTime);
 
+    @Query("""
+            SELECT COUNT(r) > 0 FROM ParkingReservation r
+            WHERE r.partitionDay BETWEEN :firstPartition AND :lastPartition
+            AND r.spaceId = :spaceId
+            AND (r.startTime < :endTime AND r.endTime > :startTime)
+            """)
+    boolean existsBySpaceIdAndTimeRange(@Param("firstPartition") long firstPartition,
+                                        @Param("lastPartition") long lastPartition,
+                                        @Param("spaceId") int spaceId,
+                                        @Param("startTime") Instant startTime,
+                                        @Param("endTime") Instant endTime);
+
+    /**
+     * Compares plates in the form {@link com.example.parking.util.LicensePlateUtil#normalize} produces. Neither
+     * routed to a partition nor indexed, so it reads the whole history; only the explicit plate history uses it.
+     */
     @Query("""
             SELECT r FROM ParkingReservation r
-            WHERE r.licensePlate = :licensePlate
-            AND r.startTime = :startTime
+            WHERE UPPER(FUNCTION('REGEXP_REPLACE', r.licensePlate, '[^\\p{L}\\p{Nd}]', '')) = :normalizedPlate
+            ORDER BY r.startTime
             """)
-    List<ParkingReservation> findByLicensePlateAndExactStart(
-            @Param("licensePlate") String licensePlate,
-            @Param("startTime") Instant startTime);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ParkingReservation> findAllByNormalizedLicensePlate(@Param("normalizedPlate") String normalizedPlate);
 
     @Query("""
             SELECT r FROM ParkingReservation r
-            WHERE r.licensePlate = :licensePlate
-            AND (r.startTime < :endTime AND r.endTime > :startTime)
+            WHERE r.partitionDay >= :firstPartition
+            AND r.endTime > :time
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ParkingReservation> findAllEndingAfter(@Param("firstPartition") long firstPartition,
+                                                @Param("time") Instant time);
+
+    @Query("""
+            SELECT new com.example.parking.entity.OccupiedSpace(r.id, r.startTime, r.spaceId)
+            FROM ParkingReservation r
+            WHERE r.partitionDay >= :firstPartition
+            AND r.endTime > :time
             """)
-    List<ParkingReservation> findOverlappingByLicensePlate(
-            @Param("licensePlate") String licensePlate,
-            @Param("startTime") Instant startTime,
-            @Param("endTime") Instant endTime);
+    List<OccupiedSpace> findOccupiedSpacesEndingAfter(@Param("firstPartition") long firstPartition,
+                                                      @Param("time") Instant time);
 }
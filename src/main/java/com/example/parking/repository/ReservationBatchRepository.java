@@ -0,0 +1,90 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.SpaceSize;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO parking_reservations (id, space_id, start_time, end_time, license_plate, partition_day,
+                                              ev_charging, accessible, size)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM parking_reservations WHERE id = ?
+            """;
+
+    private static final String DROP_PARTITIONS_SQL = """
+            DELETE FROM parking_reservations WHERE partition_day < ?
+            """;
+
+    private static final String SELECT_ALL_SQL = """
+            SELECT id, space_id, start_time, end_time, license_plate, ev_charging, accessible, size
+            FROM parking_reservations
+            ORDER BY start_time
+            """;
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<ParkingReservation> reservations) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, reservations, reservations.size(), (ps, reservation) -> {
+            ps.setString(1, reservation.getId());
+            ps.setInt(2, reservation.getSpaceId());
+            ps.setObject(3, reservation.getStartTime().atOffset(ZoneOffset.UTC));
+            ps.setObject(4, reservation.getEndTime().atOffset(ZoneOffset.UTC));
+            ps.setString(5, reservation.getLicensePlate());
+            ps.setLong(6, reservation.getPartitionDay());
+            ps.setBoolean(7, reservation.isEvCharging());
+            ps.setBoolean(8, reservation.isAccessible());
+            ps.setString(9, reservation.getSize() == null ? null : reservation.getSize().name());
+        });
+    }
+
+    public void deleteAllById(List<String> ids) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, ids, ids.size(), (ps, id) -> ps.setString(1, id));
+    }
+
+    /**
+     * Removes every partition before {@code partition} with one statement over the partition index,
+     * instead of looking reservations up and deleting them by id. Partitions are only a column, so this is
+     * still a row-by-row DELETE: its cost grows with the number of rows dropped, not the number of days.
+     */
+    public int dropPartitionsBefore(long partition) {
+        return jdbcTemplate.update(DROP_PARTITIONS_SQL, partition);
+    }
+
+    public void forEach(Consumer<ParkingReservation> consumer) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_ALL_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            consumer.accept(new ParkingReservation(
+                    rs.getString(1),
+                    rs.getInt(2),
+                    rs.getObject(3, OffsetDateTime.class).toInstant(),
+                    rs.getObject(4, OffsetDateTime.class).toInstant(),
+                    rs.getString(5),
+                    toSpaceFilter(rs.getBoolean(6), rs.getBoolean(7), rs.getString(8))
+            ));
+        });
+    }
+
+    private static SpaceFilter toSpaceFilter(boolean evCharging, boolean accessible, String size) {
+        return new SpaceFilter(evCharging, accessible, size == null ? null : SpaceSize.valueOf(size));
+    }
+}
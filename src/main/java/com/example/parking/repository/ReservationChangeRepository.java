@@ -0,0 +1,26 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.ReservationChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReservationChangeRepository extends JpaRepository<ReservationChange, Long> {
+
+    List<ReservationChange> findByPositionIsNullOrderByIdAsc(Limit limit);
+
+    List<ReservationChange> findByPositionGreaterThanOrderByPositionAsc(long position, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(c.position), 0) FROM ReservationChange c")
+    long findMaxPosition();
+
+    @Modifying
+    @Query("DELETE FROM ReservationChange c WHERE c.position <= :position")
+    int deleteUpToPosition(@Param("position") long position);
+}
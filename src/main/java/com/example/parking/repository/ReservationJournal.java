@@ -0,0 +1,18 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.entity.WaitlistEntry;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReservationJournal {
+
+    List<ParkingReservation> loadReservations();
+
+    List<WaitlistEntry> loadWaitlist();
+
+    void write(Collection<ParkingReservation> insertedReservations, Collection<String> deletedReservationIds,
+               Collection<WaitlistEntry> savedWaitlistEntries, Collection<String> deletedWaitlistEntryIds,
+               Collection<ReservationOutbox.Change> changes);
+}
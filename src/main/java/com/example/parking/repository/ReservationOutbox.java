@@ -0,0 +1,50 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.ChangeType;
+import com.example.parking.entity.ParkingReservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationOutbox {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reservation_changes
+            (type, reservation_id, space_id, start_time, end_time, license_plate, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Change(ChangeType type, ParkingReservation reservation) {
+    }
+
+    public void record(ChangeType type, ParkingReservation reservation) {
+        recordAll(List.of(new Change(type, reservation)));
+    }
+
+    public void record(ChangeType type, Collection<ParkingReservation> reservations) {
+        recordAll(reservations.stream().map(reservation -> new Change(type, reservation)).toList());
+    }
+
+    public void recordAll(Collection<Change> changes) {
+        var occurredAt = Instant.now().atOffset(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, changes.size(), (ps, change) -> {
+            var reservation = change.reservation();
+            ps.setString(1, change.type().name());
+            ps.setString(2, reservation.getId());
+            ps.setInt(3, reservation.getSpaceId());
+            ps.setObject(4, reservation.getStartTime().atOffset(ZoneOffset.UTC));
+            ps.setObject(5, reservation.getEndTime().atOffset(ZoneOffset.UTC));
+            ps.setString(6, reservation.getLicensePlate());
+            ps.setObject(7, occurredAt);
+        });
+    }
+}
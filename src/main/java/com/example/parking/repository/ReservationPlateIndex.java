@@ -0,0 +1,132 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.ParkingReservation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import static com.example.parking.util.LicensePlateUtil.normalize;
+
+/**
+ * Active and upcoming reservations by normalized license plate. Every booking starts in the future, so conflict
+ * checks never need a reservation that has already ended; the engines load only reservations that have not
+ * ended and {@link #removeEndedBy} drops the rest as they finish.
+ */
+@Component
+public class ReservationPlateIndex {
+
+    private static final Comparator<ParkingReservation> BY_START_TIME = Comparator
+            .comparing(ParkingReservation::getStartTime)
+            .thenComparing(ParkingReservation::getId);
+
+    private volatile Map<String, NavigableSet<ParkingReservation>> reservationsByPlate = new ConcurrentHashMap<>();
+
+    public void add(ParkingReservation reservation) {
+        add(reservationsByPlate, reservation);
+    }
+
+    public void remove(ParkingReservation reservation) {
+        reservationsByPlate.computeIfPresent(normalize(reservation.getLicensePlate()), (plate, reservations) -> {
+            reservations.remove(reservation);
+            return reservations.isEmpty() ? null : reservations;
+        });
+    }
+
+    public void removeStartingBefore(Instant startTime) {
+        for (var plate : reservationsByPlate.keySet()) {
+            reservationsByPlate.computeIfPresent(plate, (key, reservations) -> {
+                reservations.headSet(probe(startTime)).clear();
+                return reservations.isEmpty() ? null : reservations;
+            });
+        }
+    }
+
+    public List<ParkingReservation> removeEndedBy(Instant time) {
+        var removed = new ArrayList<ParkingReservation>();
+        for (var plate : reservationsByPlate.keySet()) {
+            reservationsByPlate.computeIfPresent(plate, (key, reservations) -> {
+                for (var reservation : reservations.headSet(probe(time))) {
+                    if (!reservation.getEndTime().isAfter(time) && reservations.remove(reservation)) {
+                        removed.add(reservation);
+                    }
+                }
+                return reservations.isEmpty() ? null : reservations;
+            });
+        }
+        return removed;
+    }
+
+    public void rebuild(Collection<ParkingReservation> reservations) {
+        var rebuilt = new ConcurrentHashMap<String, NavigableSet<ParkingReservation>>();
+        reservations.forEach(reservation -> add(rebuilt, reservation));
+        reservationsByPlate = rebuilt;
+    }
+
+    public void clear() {
+        reservationsByPlate.clear();
+    }
+
+    public List<ParkingReservation> findByLicensePlate(String licensePlate) {
+        var reservations = reservationsByPlate.get(normalize(licensePlate));
+        return reservations == null ? List.of() : List.copyOf(reservations);
+    }
+
+    public boolean existsByLicensePlateAndExactStart(String licensePlate, Instant startTime) {
+        var reservations = reservationsByPlate.get(normalize(licensePlate));
+        if (reservations == null) {
+            return false;
+        }
+        var candidate = reservations.ceiling(probe(startTime));
+        return candidate != null && candidate.getStartTime().equals(startTime);
+    }
+
+    /**
+     * Only the latest reservation starting before {@code endTime} is checked. That is a full range check because one
+     * plate's reservations never overlap each other (this check keeps it so): their end times are ordered like their
+     * start times, so no earlier one can reach further past {@code startTime}. Every reservation also lasts exactly
+     * one hour ({@code getTimeOneHourLater}); a booking path that allowed overlapping or longer stays for one plate
+     * would need to walk the head set instead.
+     */
+    public boolean existsOverlappingByLicensePlate(String licensePlate, Instant startTime, Instant endTime) {
+        var reservations = reservationsByPlate.get(normalize(licensePlate));
+        if (reservations == null) {
+            return false;
+        }
+        var latestStartingBefore = reservations.lower(probe(endTime));
+        return latestStartingBefore != null && latestStartingBefore.getEndTime().isAfter(startTime);
+    }
+
+    public List<ParkingReservation> findAdjacentByLicensePlate(String licensePlate, Instant startTime, Instant endTime) {
+        var reservations = reservationsByPlate.get(normalize(licensePlate));
+        if (reservations == null) {
+            return List.of();
+        }
+        var before = reservations.lower(probe(startTime));
+        var after = reservations.ceiling(probe(endTime));
+        var adjacent = new ArrayList<ParkingReservation>(2);
+        if (before != null && before.getEndTime().equals(startTime)) {
+            adjacent.add(before);
+        }
+        if (after != null && after.getStartTime().equals(endTime)) {
+            adjacent.add(after);
+        }
+        return adjacent;
+    }
+
+    private static void add(Map<String, NavigableSet<ParkingReservation>> index, ParkingReservation reservation) {
+        index.computeIfAbsent(normalize(reservation.getLicensePlate()), plate -> new ConcurrentSkipListSet<>(BY_START_TIME))
+                .add(reservation);
+    }
+
+    private static ParkingReservation probe(Instant startTime) {
+        return new ParkingReservation("", 0, startTime, startTime, null);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.parking.repository;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.parking.util.Constants.ONE_HOUR_IN_SECONDS;
+
+@Component
+public class ReservationVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final NavigableMap<Instant, Long> versionsByStart = new ConcurrentSkipListMap<>();
+    private final NavigableMap<Instant, Set<SlotWaiter>> waitersBySlot = new ConcurrentSkipListMap<>();
+    private final Executor waiterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile long baseVersion;
+    private volatile PrunedSlots prunedSlots = new PrunedSlots(Instant.MIN, 0);
+
+    private record SlotWaiter(String knownVersion, CompletableFuture<String> result) {
+    }
+
+    private record PrunedSlots(Instant before, long version) {
+    }
+
+    public void bump(Instant startTime) {
+        var version = globalVersion.incrementAndGet();
+        versionsByStart.merge(startTime, version, Math::max);
+        notifyWaiters(waitersBySlot.subMap(
+                startTime.minusSeconds(ONE_HOUR_IN_SECONDS), false, startTime.plusSeconds(ONE_HOUR_IN_SECONDS), false));
+    }
+
+    public void bumpAll() {
+        baseVersion = globalVersion.incrementAndGet();
+        notifyWaiters(waitersBySlot);
+    }
+
+    public String current() {
+        return tag(globalVersion.get());
+    }
+
+    public String forSlot(Instant startTime, Instant endTime) {
+        var version = baseVersion;
+        var pruned = prunedSlots;
+        if (startTime.minusSeconds(ONE_HOUR_IN_SECONDS).isBefore(pruned.before())) {
+            version = Math.max(version, pruned.version());
+        }
+        for (var slotVersion : versionsByStart
+                .subMap(startTime.minusSeconds(ONE_HOUR_IN_SECONDS), false, endTime, false).values()) {
+            version = Math.max(version, slotVersion);
+        }
+        return tag(version);
+    }
+
+    /**
+     * Forgets the versions of slots starting before {@code before}. Their highest version becomes the floor for
+     * every slot reaching back past {@code before}, so those slots' ETags never move backwards. An entry bumped
+     * again while pruning is kept. Waiters need no pruning: a slot's set is removed when its last waiter completes.
+     */
+    public synchronized void pruneBefore(Instant before) {
+        var pruned = List.copyOf(versionsByStart.headMap(before).entrySet());
+        var version = prunedSlots.version();
+        for (var entry : pruned) {
+            version = Math.max(version, entry.getValue());
+        }
+        prunedSlots = new PrunedSlots(before.isAfter(prunedSlots.before()) ? before : prunedSlots.before(), version);
+        pruned.forEach(entry -> versionsByStart.remove(entry.getKey(), entry.getValue()));
+    }
+
+    int slotVersionCount() {
+        return versionsByStart.size();
+    }
+
+    int waitedSlotCount() {
+        return waitersBySlot.size();
+    }
+
+    /**
+     * Completes with the slot's new version once it differs from {@code knownVersion}, or with
+     * {@code knownVersion} itself when {@code timeout} elapses first. Completion happens off the
+     * thread that bumped the version, so dependent stages never run inside a booking transaction.
+     */
+    public CompletableFuture<String> awaitSlotChange(Instant slotStart, String knownVersion, Duration timeout) {
+        var waiter = new SlotWaiter(knownVersion, new CompletableFuture<>());
+        waitersBySlot.compute(slotStart, (slot, waiters) -> {
+            var registered = waiters == null ? ConcurrentHashMap.<SlotWaiter>newKeySet() : waiters;
+            registered.add(waiter);
+            return registered;
+        });
+        waiter.result()
+                .completeOnTimeout(knownVersion, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((version, ex) -> waitersBySlot.computeIfPresent(slotStart, (slot, waiters) -> {
+                    waiters.remove(waiter);
+                    return waiters.isEmpty() ? null : waiters;
+                }));
+
+        var version = forSlot(slotStart, slotStart.plusSeconds(ONE_HOUR_IN_SECONDS));
+        if (!version.equals(knownVersion)) {
+            waiter.result().complete(version);
+        }
+        return waiter.result();
+    }
+
+    private void notifyWaiters(NavigableMap<Instant, Set<SlotWaiter>> slots) {
+        for (var entry : slots.entrySet()) {
+            var version = forSlot(entry.getKey(), entry.getKey().plusSeconds(ONE_HOUR_IN_SECONDS));
+            for (var waiter : entry.getValue()) {
+                if (!version.equals(waiter.knownVersion())) {
+                    waiter.result().completeAsync(() -> version, waiterExecutor);
+                }
+            }
+        }
+    }
+
+    private String tag(long version) {
+        return epoch + "-" + version;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.example.parking.util.LicensePlateUtil.normalize;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, String> {
+
+    @Query("""
+            SELECT w FROM WaitlistEntry w
+            WHERE w.status = com.example.parking.entity.WaitlistStatus.WAITING
+            AND (w.startTime < :endTime AND w.endTime > :startTime)
+            ORDER BY w.createdAt
+            """)
+    List<WaitlistEntry> findWaitingByTimeRange(@Param("startTime") Instant startTime,
+                                               @Param("endTime") Instant endTime);
+
+    /**
+     * Compares plates the way {@link ReservationPlateIndex} does, so "ab 123" and "AB123" conflict. Plates are
+     * stored as entered, hence the check runs over the slot's waiting entries rather than in the query.
+     */
+    default boolean existsWaitingOverlappingByLicensePlate(String licensePlate, Instant startTime, Instant endTime) {
+        var plate = normalize(licensePlate);
+        return findWaitingByTimeRange(startTime, endTime).stream()
+                .anyMatch(entry -> plate.equals(normalize(entry.getLicensePlate())));
+    }
+
+    @Query("""
+            SELECT COUNT(w) FROM WaitlistEntry w
+            WHERE w.status = com.example.parking.entity.WaitlistStatus.WAITING
+            AND w.startTime = :startTime
+            AND w.createdAt <= :createdAt
+            """)
+    long countWaitingAheadInSlot(@Param("startTime") Instant startTime,
+                                 @Param("createdAt") Instant createdAt);
+}
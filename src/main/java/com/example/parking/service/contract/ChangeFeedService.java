@@ -0,0 +1,8 @@
+package com.example.parking.service.contract;
+
+import com.example.parking.model.ChangeFeedResponse;
+
+public interface ChangeFeedService {
+
+    ChangeFeedResponse getChanges(long since, int limit);
+}
@@ -0,0 +1,10 @@
+package com.example.parking.service.contract;
+
+import com.example.parking.model.ReservationChangeResponse;
+
+import java.util.List;
+
+public interface ChangeSink {
+
+    void publish(List<ReservationChangeResponse> changes);
+}
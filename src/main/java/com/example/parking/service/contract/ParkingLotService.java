@@ -0,0 +1,16 @@
+package com.example.parking.service.contract;
+
+import com.example.parking.model.LotCapacityRequest;
+import com.example.parking.model.LotResponse;
+import com.example.parking.model.SpaceRangeRequest;
+
+public interface ParkingLotService {
+
+    LotResponse getLot();
+
+    LotResponse updateCapacity(LotCapacityRequest request);
+
+    LotResponse closeSpaces(SpaceRangeRequest request);
+
+    LotResponse openSpaces(SpaceRangeRequest request);
+}
@@ -1,19 +1,78 @@
 package com.example.parking.service.contract;
 
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.model.BulkCancelResponse;
+import com.example.parking.model.BulkFormat;
+import com.example.parking.model.ImportResultResponse;
+import com.example.parking.model.RecurringReservationRequest;
 import com.example.parking.model.ReservationRequest;
 import com.example.parking.model.ReservationResponse;
+import com.example.parking.model.WaitlistResponse;
 
+import java.io.BufferedReader;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 public interface ParkingService {
 
     ReservationResponse createReservation(ReservationRequest request);
 
+    CompletableFuture<ReservationResponse> createReservationAsync(ReservationRequest request);
+
+    List<ReservationResponse> createRecurringReservation(RecurringReservationRequest request);
+
+    ImportResultResponse importReservations(BufferedReader reader, BulkFormat format);
+
+    void exportReservations(Writer writer, BulkFormat format);
+
+    ReservationResponse rescheduleReservation(String reservationId, LocalDateTime startTime);
+
     void cancelReservation(String reservationId);
 
+    BulkCancelResponse cancelReservationsByLicensePlate(String licensePlate);
+
+    BulkCancelResponse cancelReservationsBySlotRange(LocalDateTime from, LocalDateTime to);
+
+    WaitlistResponse joinWaitlist(ReservationRequest request);
+
+    WaitlistResponse getWaitlistEntry(String entryId);
+
+    void leaveWaitlist(String entryId);
+
     ReservationResponse getReservation(String reservationId);
 
     List<ReservationResponse> getAllReservations();
 
+    /**
+     * Active and upcoming reservations for the plate; ended ones are not kept in the plate index.
+     */
+    List<ReservationResponse> getReservationsByLicensePlate(String licensePlate);
+
+    /**
+     * Every stored reservation for the plate, ended ones included. Reads the reservation history rather than the
+     * plate index, so it costs a scan of that history.
+     */
+    List<ReservationResponse> getReservationHistoryByLicensePlate(String licensePlate);
+
+    List<ReservationResponse> getReservationsBySlot(LocalDateTime slotStart);
+
+    List<Integer> getFreeSpaces(LocalDateTime slotStart, SpaceFilter filter);
+
+    String getReservationsVersion();
+
+    String getSlotVersion(LocalDateTime slotStart);
+
+    CompletableFuture<String> awaitSlotChange(LocalDateTime slotStart, String knownVersion, Duration timeout);
+
     int getTotalSpaces();
+
+    /**
+     * Runs {@code action} serialized with every booking change of this engine, for maintenance that must not
+     * interleave with bookings.
+     */
+    <T> T executeExclusively(Supplier<T> action);
 }
@@ -0,0 +1,11 @@
+package com.example.parking.service.contract;
+
+import java.time.Instant;
+import java.util.BitSet;
+
+public interface SpaceAllocationStrategy {
+
+    int NO_SPACE = -1;
+
+    int allocate(BitSet occupiedSpaces, int totalSpaces, String licensePlate, Instant startTime, Instant endTime);
+}
@@ -0,0 +1,172 @@
+package com.example.parking.service.implementation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static com.example.parking.util.Constants.MSG_ENGINE_STOPPED;
+
+@Slf4j
+class BookingEngine implements AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final BookingRingBuffer<Command<?>> ringBuffer;
+    private final int batchSize;
+    private final Runnable flush;
+    private final Runnable recover;
+    private final Thread thread;
+    private final Object terminationLock = new Object();
+    private volatile boolean running = true;
+    private volatile boolean idle;
+    private boolean terminated;
+
+    BookingEngine(String name, int capacity, int batchSize, Runnable flush, Runnable recover) {
+        this.ringBuffer = new BookingRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flush = flush;
+        this.recover = recover;
+        this.thread = Thread.ofPlatform().name(name).daemon().unstarted(this::run);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Queues {@code mutation}, waiting while the ring buffer is full. Fails instead of queueing once the engine
+     * has stopped, and a command that lands after the final drain is failed here, so no future is left pending.
+     */
+    <T> CompletableFuture<T> submit(Supplier<T> mutation) {
+        var command = new Command<>(mutation);
+        while (!ringBuffer.offer(command)) {
+            if (!running) {
+                return CompletableFuture.failedFuture(new IllegalStateException(MSG_ENGINE_STOPPED));
+            }
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+        if (!running) {
+            failQueuedAfterTermination();
+        } else if (idle) {
+            LockSupport.unpark(thread);
+        }
+        return command.result;
+    }
+
+    <T> T execute(Supplier<T> mutation) {
+        try {
+            return submit(mutation).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        var batch = new ArrayList<Command<?>>(batchSize);
+        try {
+            drainLoop(batch);
+        } finally {
+            synchronized (terminationLock) {
+                running = false;
+                terminated = true;
+                var stopped = new IllegalStateException(MSG_ENGINE_STOPPED);
+                batch.forEach(command -> command.result.completeExceptionally(stopped));
+                ringBuffer.drain(command -> command.result.completeExceptionally(stopped), Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    /**
+     * Once the engine thread has left its loop nothing else consumes the ring buffer, so a submitter that
+     * saw the engine stop fails whatever is still queued. Before that, the engine's own final drain does it.
+     */
+    private void failQueuedAfterTermination() {
+        synchronized (terminationLock) {
+            if (terminated) {
+                var stopped = new IllegalStateException(MSG_ENGINE_STOPPED);
+                ringBuffer.drain(command -> command.result.completeExceptionally(stopped), Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    private void drainLoop(ArrayList<Command<?>> batch) {
+        while (running) {
+            ringBuffer.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                idle = true;
+                if (ringBuffer.isEmpty() && running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+                continue;
+            }
+
+            batch.forEach(Command::apply);
+            try {
+                flush.run();
+                batch.forEach(Command::complete);
+            } catch (RuntimeException ex) {
+                recoverQuietly(ex);
+                batch.forEach(command -> command.result.completeExceptionally(ex));
+            }
+            batch.clear();
+        }
+    }
+
+    private void recoverQuietly(RuntimeException flushFailure) {
+        try {
+            recover.run();
+        } catch (RuntimeException ex) {
+            ex.addSuppressed(flushFailure);
+            log.error("Booking engine could not recover after a failed flush, state may be stale", ex);
+        }
+    }
+
+    private static final class Command<T> {
+
+        private final Supplier<T> mutation;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private T value;
+        private RuntimeException failure;
+
+        private Command(Supplier<T> mutation) {
+            this.mutation = mutation;
+        }
+
+        private void apply() {
+            try {
+                value = mutation.get();
+            } catch (RuntimeException ex) {
+                failure = ex;
+            }
+        }
+
+        private void complete() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+}
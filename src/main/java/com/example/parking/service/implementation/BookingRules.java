@@ -0,0 +1,204 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.domain.ParkingLot;
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.WaitlistEntry;
+import com.example.parking.exception.ParkingFullException;
+import com.example.parking.exception.ReservationConflictException;
+import com.example.parking.model.RecurringReservationRequest;
+import com.example.parking.model.ReservationResponse;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static com.example.parking.util.Constants.*;
+import static com.example.parking.util.TimeUtil.getInstant;
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+
+/**
+ * Booking rules shared by every booking engine. The engines decide where occupancy is read from and how
+ * concurrent bookings are serialized; everything about whether a booking is allowed and which space it gets
+ * is decided here.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingRules {
+
+    private final ParkingLot parkingLot;
+    private final ReservationPlateIndex plateIndex;
+    private final SpaceAllocationStrategy spaceAllocationStrategy;
+
+    void checkFuture(LocalDateTime startTime) {
+        if (startTime.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException(MSG_RESERVATION_FUTURE);
+        }
+    }
+
+    Instant[] slotStarts(RecurringReservationRequest request) {
+        var slotStarts = new Instant[request.getCount()];
+        var slotStart = request.getRecurrence().first(request.getStartTime());
+        for (var i = 0; i < slotStarts.length; i++) {
+            slotStarts[i] = getInstant(slotStart);
+            slotStart = request.getRecurrence().next(slotStart);
+        }
+        return slotStarts;
+    }
+
+    void checkPlateConflicts(String licensePlate, Instant startTime, Instant endTime) {
+        if (plateIndex.existsByLicensePlateAndExactStart(licensePlate, startTime)) {
+            throw new ReservationConflictException(String.format(MSG_RESERVATION_SAME_HOUR, licensePlate));
+        }
+
+        if (plateIndex.existsOverlappingByLicensePlate(licensePlate, startTime, endTime)) {
+            throw new ReservationConflictException(String.format(MSG_RESERVATION_CONFLICT, licensePlate));
+        }
+    }
+
+    void checkPlateConflicts(String licensePlate, Instant[] slotStarts) {
+        for (var start : slotStarts) {
+            checkPlateConflicts(licensePlate, start, getTimeOneHourLater(start));
+        }
+    }
+
+    void checkCapacity(long reservationCount) {
+        if (!hasCapacity(reservationCount)) {
+            throw new ParkingFullException(MSG_MAX_CAPACITY);
+        }
+    }
+
+    boolean hasCapacity(long reservationCount) {
+        return reservationCount < parkingLot.getMaxReservations();
+    }
+
+    int allocateSpace(BitSet occupiedSpaces, String licensePlate, Instant startTime, Instant endTime,
+                      SpaceFilter filter) {
+        parkingLot.excludeUnavailable(occupiedSpaces, filter);
+        var spaceId = spaceAllocationStrategy.allocate(
+                occupiedSpaces, parkingLot.getTotalSpaces(), licensePlate, startTime, endTime);
+
+        if (spaceId == SpaceAllocationStrategy.NO_SPACE) {
+            throw new ParkingFullException(filter.isAny() ? MSG_NO_SPACE_AVAILABLE : MSG_NO_MATCHING_SPACE);
+        }
+        return spaceId;
+    }
+
+    /**
+     * Keeps a rescheduled reservation on its previous space when that space is still open, free and matches
+     * the filter, and allocates a new one otherwise. {@code occupiedSpaces} must not include the reservation itself.
+     */
+    int rescheduledSpace(int previousSpaceId, BitSet occupiedSpaces, String licensePlate, Instant startTime,
+                         Instant endTime, SpaceFilter filter) {
+        if (previousSpaceId <= parkingLot.getTotalSpaces() && !parkingLot.isClosed(previousSpaceId)
+                && !occupiedSpaces.get(previousSpaceId) && parkingLot.matches(previousSpaceId, filter)) {
+            return previousSpaceId;
+        }
+        return allocateSpace(occupiedSpaces, licensePlate, startTime, endTime, filter);
+    }
+
+    List<Integer> freeSpaces(BitSet occupiedSpaces, SpaceFilter filter) {
+        parkingLot.excludeUnavailable(occupiedSpaces, filter);
+        var totalSpaces = parkingLot.getTotalSpaces();
+        var free = new ArrayList<Integer>();
+        for (var spaceId = occupiedSpaces.nextClearBit(1); spaceId <= totalSpaces;
+             spaceId = occupiedSpaces.nextClearBit(spaceId + 1)) {
+            free.add(spaceId);
+        }
+        return free;
+    }
+
+    /**
+     * Allocates one reservation per slot, preferring a single space that is free in every slot and falling
+     * back to a per-slot allocation where that space is taken. The snapshot must cover all slots.
+     */
+    List<ParkingReservation> allocateRecurring(String licensePlate, Instant[] slotStarts, OccupancySnapshot snapshot) {
+        var occupiedInAnySlot = new BitSet(parkingLot.getTotalSpaces() + 1);
+        for (var start : slotStarts) {
+            var end = getTimeOneHourLater(start);
+            checkCapacity(snapshot.count(start, end));
+            occupiedInAnySlot.or(snapshot.occupied(start, end));
+        }
+
+        parkingLot.excludeClosed(occupiedInAnySlot);
+        var sharedSpaceId = spaceAllocationStrategy.allocate(occupiedInAnySlot, parkingLot.getTotalSpaces(),
+                licensePlate, slotStarts[0], getTimeOneHourLater(slotStarts[0]));
+
+        var reservations = new ArrayList<ParkingReservation>(slotStarts.length);
+        var previousSpaceId = sharedSpaceId;
+        for (var start : slotStarts) {
+            var end = getTimeOneHourLater(start);
+            var occupied = snapshot.occupied(start, end);
+            var spaceId = previousSpaceId > 0 && !occupied.get(previousSpaceId)
+                    ? previousSpaceId
+                    : allocateSpace(occupied, licensePlate, start, end, SpaceFilter.ANY);
+            reservations.add(new ParkingReservation(spaceId, start, end, licensePlate));
+            previousSpaceId = spaceId;
+        }
+        return reservations;
+    }
+
+    /**
+     * Validates one imported row against the snapshot and returns the reservation to insert. The caller adds
+     * accepted rows to the snapshot and the plate index before validating the next one. {@code knownId} is only
+     * asked about ids supplied by the row.
+     */
+    ParkingReservation toImportedReservation(ReservationResponse row, LocalDateTime now, OccupancySnapshot snapshot,
+                                             Predicate<String> knownId) {
+        if (row.getStartTime() == null || row.getLicensePlate() == null) {
+            throw new IllegalArgumentException(MSG_IMPORT_MISSING_FIELDS);
+        }
+
+        if (row.getStartTime().isBefore(now)) {
+            throw new IllegalArgumentException(MSG_RESERVATION_FUTURE);
+        }
+
+        var startTime = getInstant(row.getStartTime());
+        var endTime = getTimeOneHourLater(startTime);
+        if (row.getEndTime() != null && !getInstant(row.getEndTime()).equals(endTime)) {
+            throw new IllegalArgumentException(MSG_IMPORT_DURATION);
+        }
+
+        var id = row.getReservationId();
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+        } else if (knownId.test(id)) {
+            throw new ReservationConflictException(MSG_IMPORT_DUPLICATE_ID + id);
+        }
+
+        checkPlateConflicts(row.getLicensePlate(), startTime, endTime);
+        checkCapacity(snapshot.count(startTime, endTime));
+
+        var occupied = snapshot.occupied(startTime, endTime);
+        var spaceId = row.getSpaceId();
+        if (spaceId <= 0) {
+            spaceId = allocateSpace(occupied, row.getLicensePlate(), startTime, endTime, SpaceFilter.ANY);
+        } else if (spaceId > parkingLot.getTotalSpaces() || occupied.get(spaceId) || parkingLot.isClosed(spaceId)) {
+            throw new ParkingFullException(MSG_IMPORT_SPACE_TAKEN + spaceId);
+        }
+
+        return new ParkingReservation(id, spaceId, startTime, endTime, row.getLicensePlate());
+    }
+
+    boolean acceptsPromotions(int freedSpaceId) {
+        return freedSpaceId <= parkingLot.getTotalSpaces() && !parkingLot.isClosed(freedSpaceId);
+    }
+
+    /**
+     * Whether an unexpired waiting entry may take the freed space, before capacity and the space itself are
+     * checked against the engine's occupancy.
+     */
+    boolean isPromotable(WaitlistEntry entry, int freedSpaceId) {
+        return parkingLot.matches(freedSpaceId, entry.toSpaceFilter())
+                && !plateIndex.existsOverlappingByLicensePlate(
+                        entry.getLicensePlate(), entry.getStartTime(), entry.getEndTime());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.mapper.ReservationMapper;
+import com.example.parking.model.ChangeFeedResponse;
+import com.example.parking.repository.ReservationChangeRepository;
+import com.example.parking.service.contract.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import static com.example.parking.util.Constants.MAX_CHANGE_FEED_LIMIT;
+
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    private final ReservationChangeRepository changeRepository;
+    private final ReservationMapper reservationMapper;
+
+    @Override
+    public ChangeFeedResponse getChanges(long since, int limit) {
+        var cursor = Math.max(since, 0);
+        var changes = changeRepository.findByPositionGreaterThanOrderByPositionAsc(
+                        cursor, Limit.of(Math.clamp(limit, 1, MAX_CHANGE_FEED_LIMIT))).stream()
+                .map(reservationMapper::toChangeResponse)
+                .toList();
+        return ChangeFeedResponse.from(changes, cursor);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.model.ReservationChangeResponse;
+import com.example.parking.service.contract.ChangeSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class FileChangeSink implements ChangeSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(List<ReservationChangeResponse> changes) {
+        try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (var change : changes) {
+                writer.write(objectMapper.writeValueAsString(change));
+                writer.newLine();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
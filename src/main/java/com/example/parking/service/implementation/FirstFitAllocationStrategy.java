@@ -0,0 +1,15 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+
+import java.time.Instant;
+import java.util.BitSet;
+
+public class FirstFitAllocationStrategy implements SpaceAllocationStrategy {
+
+    @Override
+    public int allocate(BitSet occupiedSpaces, int totalSpaces, String licensePlate, Instant startTime, Instant endTime) {
+        var spaceId = occupiedSpaces.nextClearBit(1);
+        return spaceId <= totalSpaces ? spaceId : NO_SPACE;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.BitSet;
+
+@RequiredArgsConstructor
+public class NeighbourSlotAllocationStrategy implements SpaceAllocationStrategy {
+
+    private final ReservationPlateIndex plateIndex;
+    private final SpaceAllocationStrategy fallback;
+
+    @Override
+    public int allocate(BitSet occupiedSpaces, int totalSpaces, String licensePlate, Instant startTime, Instant endTime) {
+        for (var reservation : plateIndex.findAdjacentByLicensePlate(licensePlate, startTime, endTime)) {
+            var spaceId = reservation.getSpaceId();
+            if (spaceId <= totalSpaces && !occupiedSpaces.get(spaceId)) {
+                return spaceId;
+            }
+        }
+        return fallback.allocate(occupiedSpaces, totalSpaces, licensePlate, startTime, endTime);
+    }
+}
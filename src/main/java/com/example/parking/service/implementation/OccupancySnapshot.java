@@ -0,0 +1,45 @@
+package com.example.parking.service.implementation;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static com.example.parking.util.Constants.ONE_HOUR_IN_SECONDS;
+
+class OccupancySnapshot {
+
+    private final NavigableMap<Instant, BitSet> spacesByStart = new TreeMap<>();
+    private final BitSet occupied = new BitSet();
+
+    void add(Instant startTime, int spaceId) {
+        spacesByStart.computeIfAbsent(startTime, time -> new BitSet()).set(spaceId);
+    }
+
+    void remove(Instant startTime, int spaceId) {
+        spacesByStart.computeIfPresent(startTime, (time, spaces) -> {
+            spaces.clear(spaceId);
+            return spaces.isEmpty() ? null : spaces;
+        });
+    }
+
+    int count(Instant startTime, Instant endTime) {
+        var count = 0;
+        for (var spaces : overlapping(startTime, endTime).values()) {
+            count += spaces.cardinality();
+        }
+        return count;
+    }
+
+    BitSet occupied(Instant startTime, Instant endTime) {
+        occupied.clear();
+        for (var spaces : overlapping(startTime, endTime).values()) {
+            occupied.or(spaces);
+        }
+        return occupied;
+    }
+
+    private NavigableMap<Instant, BitSet> overlapping(Instant startTime, Instant endTime) {
+        return spacesByStart.subMap(startTime.minusSeconds(ONE_HOUR_IN_SECONDS), false, endTime, false);
+    }
+}
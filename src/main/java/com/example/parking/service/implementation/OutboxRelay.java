@@ -0,0 +1,139 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.entity.OutboxCursor;
+import com.example.parking.mapper.ReservationMapper;
+import com.example.parking.repository.OutboxCursorRepository;
+import com.example.parking.repository.ReservationChangeRepository;
+import com.example.parking.service.contract.ChangeSink;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.parking.util.Constants.OUTBOX_BATCH_SIZE;
+
+/**
+ * Numbers recorded changes and hands them to the sink in position order. The delivered position is stored in
+ * {@code outbox_cursors} after each batch, so a restart resumes where delivery stopped; a crash between
+ * publishing and storing the cursor redelivers that batch. Delivered changes beyond the newest
+ * {@code parking.outbox.retained-changes} are pruned.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    static final String RELAY_CURSOR = "relay";
+
+    private final ReservationChangeRepository changeRepository;
+    private final OutboxCursorRepository cursorRepository;
+    private final ReservationMapper reservationMapper;
+    private final ChangeSink changeSink;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration pollInterval;
+    private final long retainedChanges;
+    private ScheduledExecutorService scheduler;
+    private long deliveredPosition;
+
+    public OutboxRelay(ReservationChangeRepository changeRepository, OutboxCursorRepository cursorRepository,
+                       ReservationMapper reservationMapper, ChangeSink changeSink,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${parking.outbox.poll-interval:200ms}") Duration pollInterval,
+                       @Value("${parking.outbox.retained-changes:100000}") long retainedChanges) {
+        this.changeRepository = changeRepository;
+        this.cursorRepository = cursorRepository;
+        this.reservationMapper = reservationMapper;
+        this.changeSink = changeSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pollInterval = pollInterval;
+        this.retainedChanges = retainedChanges;
+    }
+
+    @PostConstruct
+    public synchronized void loadCursor() {
+        // the cursor row is created once here, so delivery only ever updates it
+        deliveredPosition = transactionTemplate.execute(status -> cursorRepository.findById(RELAY_CURSOR)
+                .orElseGet(() -> cursorRepository.save(new OutboxCursor(RELAY_CURSOR, 0))).getPosition());
+    }
+
+    /**
+     * Polling starts once the context is up: under lazy repository bootstrap the first poll creates repository
+     * beans, and doing that from this thread while the context is still refreshing can deadlock its creation.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("outbox-relay").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::relayQuietly,
+                pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(pollInterval.toMillis() * 10, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized int relay() {
+        int assigned;
+        do {
+            assigned = assignPositions();
+        } while (assigned == OUTBOX_BATCH_SIZE);
+
+        var delivered = 0;
+        while (true) {
+            var changes = changeRepository.findByPositionGreaterThanOrderByPositionAsc(
+                            deliveredPosition, Limit.of(OUTBOX_BATCH_SIZE)).stream()
+                    .map(reservationMapper::toChangeResponse)
+                    .toList();
+            if (changes.isEmpty()) {
+                return delivered;
+            }
+            changeSink.publish(changes);
+            markDelivered(changes.getLast().getPosition());
+            delivered += changes.size();
+        }
+    }
+
+    private void markDelivered(long position) {
+        transactionTemplate.executeWithoutResult(status -> {
+            cursorRepository.advance(RELAY_CURSOR, position);
+            if (position > retainedChanges) {
+                changeRepository.deleteUpToPosition(position - retainedChanges);
+            }
+        });
+        deliveredPosition = position;
+    }
+
+    private int assignPositions() {
+        return transactionTemplate.execute(status -> {
+            var pending = changeRepository.findByPositionIsNullOrderByIdAsc(Limit.of(OUTBOX_BATCH_SIZE));
+            // pruning may have removed every delivered row, so never number below the cursor
+            var position = Math.max(changeRepository.findMaxPosition(), deliveredPosition);
+            for (var change : pending) {
+                change.setPosition(++position);
+            }
+            return pending.size();
+        });
+    }
+
+    private void relayQuietly() {
+        try {
+            relay();
+        } catch (RuntimeException ex) {
+            log.warn("Reservation change relay failed, retrying in {}", pollInterval, ex);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.domain.ParkingLot;
+import com.example.parking.model.LotCapacityRequest;
+import com.example.parking.model.LotResponse;
+import com.example.parking.model.SpaceRangeRequest;
+import com.example.parking.repository.ReservationVersions;
+import com.example.parking.service.contract.ParkingLotService;
+import com.example.parking.service.contract.ParkingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Layout changes run through {@link ParkingService#executeExclusively}, so a booking never checks capacity
+ * against one layout and allocates against another.
+ */
+@Service
+@RequiredArgsConstructor
+public class ParkingLotServiceImpl implements ParkingLotService {
+
+    private final ParkingLot parkingLot;
+    private final ReservationVersions versions;
+    private final ParkingService parkingService;
+
+    @Override
+    public LotResponse getLot() {
+        return toResponse();
+    }
+
+    @Override
+    public LotResponse updateCapacity(LotCapacityRequest request) {
+        return changeLayout(() -> parkingLot.resize(request.getTotalSpaces(), request.getMaxOccupancy()));
+    }
+
+    @Override
+    public LotResponse closeSpaces(SpaceRangeRequest request) {
+        return changeLayout(() -> parkingLot.setClosed(request.getFromSpaceId(), request.getToSpaceId(), true));
+    }
+
+    @Override
+    public LotResponse openSpaces(SpaceRangeRequest request) {
+        return changeLayout(() -> parkingLot.setClosed(request.getFromSpaceId(), request.getToSpaceId(), false));
+    }
+
+    private LotResponse changeLayout(Runnable change) {
+        return parkingService.executeExclusively(() -> {
+            change.run();
+            versions.bumpAll();
+            return toResponse();
+        });
+    }
+
+    private LotResponse toResponse() {
+        return new LotResponse(parkingLot.getTotalSpaces(), parkingLot.getOpenSpaces(),
+                parkingLot.getMaxOccupancy(), parkingLot.getMaxReservations());
+    }
+}
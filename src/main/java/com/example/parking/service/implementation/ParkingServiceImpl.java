@@ -1,27 +1,63 @@
 package com.example.parking.service.implementation;
 
+import com.example.parking.diagnostics.ParkingOperationEvent;
+import com.example.parking.diagnostics.ReservationAttemptEvent;
+import com.example.parking.diagnostics.ReservationCancelEvent;
+import com.example.parking.domain.ParkingLot;
+import com.example.parking.entity.ChangeType;
 import com.example.parking.entity.ParkingReservation;
-import com.example.parking.entity.ParkingSpace;
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.WaitlistEntry;
+import com.example.parking.entity.WaitlistStatus;
+import com.example.parking.exception.InvalidSlotRangeException;
 import com.example.parking.exception.ParkingFullException;
 import com.example.parking.exception.ReservationConflictException;
 import com.example.parking.exception.ReservationNotFoundException;
+import com.example.parking.exception.WaitlistEntryNotFoundException;
+import com.example.parking.mapper.ReservationBulkCodec;
 import com.example.parking.mapper.ReservationMapper;
+import com.example.parking.model.BulkCancelResponse;
+import com.example.parking.model.BulkFormat;
+import com.example.parking.model.ImportResultResponse;
+import com.example.parking.model.RecurringReservationRequest;
 import com.example.parking.model.ReservationRequest;
 import com.example.parking.model.ReservationResponse;
+import com.example.parking.model.WaitlistResponse;
 import com.example.parking.repository.ParkingReservationRepository;
+import com.example.parking.repository.ReservationBatchRepository;
+import com.example.parking.repository.ReservationOutbox;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.repository.ReservationVersions;
+import com.example.parking.repository.WaitlistEntryRepository;
 import com.example.parking.service.contract.ParkingService;
+import com.example.parking.service.implementation.ReservationBatchProcessor.PendingReservation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static com.example.parking.util.Constants.*;
 import static com.example.parking.util.TimeUtil.getInstant;
@@ -29,63 +65,359 @@ import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
 
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "parking.engine", havingValue = "database", matchIfMissing = true)
 public class ParkingServiceImpl implements ParkingService {
 
     private final ParkingReservationRepository reservationRepository;
     private final ReservationMapper reservationMapper;
-    private final List<ParkingSpace> parkingSpaces;
-    private final Random random = new Random();
-    private final Object reservationLock = new Object();
+    private final ReservationBulkCodec bulkCodec;
+    private final ParkingLot parkingLot;
+    private final WaitlistEntryRepository waitlistRepository;
+    private final ReservationBatchRepository batchRepository;
+    private final ReservationPlateIndex plateIndex;
+    private final ReservationVersions versions;
+    private final ReservationOutbox outbox;
+    private final BookingRules bookingRules;
+    private final TransactionTemplate bookingTransactionTemplate;
+    // not a monitor: async batches hold it on virtual threads, which a monitor would pin for the whole JDBC work
+    private final ReentrantLock reservationLock = new ReentrantLock();
+    private final ReservationBatchProcessor batchProcessor =
+            new ReservationBatchProcessor(this::createReservationBatch, ASYNC_BATCH_SIZE);
+
+    @PostConstruct
+    void loadPlateIndex() {
+        plateIndex.rebuild(reservationRepository.findAllEndingAfter(Instant.now()));
+    }
+
+    @PreDestroy
+    void stopBatchProcessor() {
+        batchProcessor.close();
+    }
 
     @Override
     @Transactional(isolation = Isolation.SERIALIZABLE)
     public ReservationResponse createReservation(ReservationRequest request) {
-        synchronized (reservationLock) {
-            var requestStartTime = request.getStartTime();
+        var event = new ReservationAttemptEvent();
+        event.begin();
+        var lockRequested = System.nanoTime();
+        reservationLock.lock();
+        try {
+            event.setLockWait(System.nanoTime() - lockRequested);
+            try {
+                var saved = book(request, event);
+                event.setOutcome(ParkingOperationEvent.SUCCESS);
+
+                return reservationMapper.toResponse(saved);
+            } catch (RuntimeException ex) {
+                event.setOutcome(ParkingOperationEvent.outcomeOf(ex));
+                throw ex;
+            } finally {
+                commitAfterTransaction(event);
+            }
+        } finally {
+            reservationLock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableFuture<ReservationResponse> createReservationAsync(ReservationRequest request) {
+        return batchProcessor.submit(request);
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.SERIALIZABLE)
+    public List<ReservationResponse> createRecurringReservation(RecurringReservationRequest request) {
+        reservationLock.lock();
+        try {
+            bookingRules.checkFuture(request.getStartTime());
+            var slotStarts = bookingRules.slotStarts(request);
+            bookingRules.checkPlateConflicts(request.getLicensePlate(), slotStarts);
+
+            var snapshot = new OccupancySnapshot();
+            reservationRepository.findOccupiedSpacesByTimeRange(
+                            slotStarts[0], getTimeOneHourLater(slotStarts[slotStarts.length - 1]))
+                    .forEach(r -> snapshot.add(r.startTime(), r.spaceId()));
+
+            var reservations = bookingRules.allocateRecurring(request.getLicensePlate(), slotStarts, snapshot);
+            var saved = reservationRepository.saveAll(reservations);
+            outbox.record(ChangeType.CREATED, saved);
+            saved.forEach(plateIndex::add);
+            onRollback(() -> saved.forEach(plateIndex::remove));
+            afterCommit(() -> saved.forEach(r -> versions.bump(r.getStartTime())));
+
+            return saved.stream()
+                    .map(reservationMapper::toResponse)
+                    .toList();
+        } finally {
+            reservationLock.unlock();
+        }
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.SERIALIZABLE)
+    public ImportResultResponse importReservations(BufferedReader reader, BulkFormat format) {
+        reservationLock.lock();
+        try {
             var now = LocalDateTime.now();
+            var snapshot = new OccupancySnapshot();
+            var knownIds = new HashSet<String>();
+            reservationRepository.findOccupiedSpacesEndingAfter(getInstant(now)).forEach(r -> {
+                snapshot.add(r.startTime(), r.spaceId());
+                knownIds.add(r.reservationId());
+            });
+
+            var imported = new ArrayList<ParkingReservation>();
+            onRollback(() -> imported.forEach(plateIndex::remove));
+            afterCommit(() -> imported.forEach(r -> versions.bump(r.getStartTime())));
+
+            var batch = new ArrayList<ParkingReservation>(IMPORT_BATCH_SIZE);
+            var errors = new ArrayList<ImportResultResponse.ImportError>();
+            var rejected = 0L;
+            var lineNumber = 0L;
+
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank() || bulkCodec.isHeader(line, format)) {
+                        continue;
+                    }
+
+                    try {
+                        // knownIds only holds live and freshly imported ids; past reservations need the table
+                        var reservation = bookingRules.toImportedReservation(bulkCodec.parse(line, format), now,
+                                snapshot, id -> knownIds.contains(id) || reservationRepository.existsById(id));
+                        snapshot.add(reservation.getStartTime(), reservation.getSpaceId());
+                        knownIds.add(reservation.getId());
+                        plateIndex.add(reservation);
+                        imported.add(reservation);
+                        batch.add(reservation);
+                    } catch (IllegalArgumentException | ReservationConflictException | ParkingFullException ex) {
+                        rejected++;
+                        if (errors.size() < MAX_IMPORT_ERRORS) {
+                            errors.add(new ImportResultResponse.ImportError(lineNumber, ex.getMessage()));
+                        }
+                    }
 
-            if (requestStartTime.isBefore(now)) {
-                throw new IllegalArgumentException(MSG_RESERVATION_FUTURE);
+                    if (batch.size() == IMPORT_BATCH_SIZE) {
+                        batchRepository.insertAll(batch);
+                        outbox.record(ChangeType.CREATED, batch);
+                        batch.clear();
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
             }
 
-            var startTime = getInstant(requestStartTime);
-            var endTime = getTimeOneHourLater(startTime);
-            var sameHourList =
-                    reservationRepository.findByLicensePlateAndExactStart(request.getLicensePlate(), startTime);
+            if (!batch.isEmpty()) {
+                batchRepository.insertAll(batch);
+                outbox.record(ChangeType.CREATED, batch);
+            }
+
+            return new ImportResultResponse(imported.size(), rejected, errors);
+        } finally {
+            reservationLock.unlock();
+        }
+    }
 
-            if (!sameHourList.isEmpty()) {
-                throw new ReservationConflictException(String.format(MSG_RESERVATION_SAME_HOUR, request.getLicensePlate()));
+    @Override
+    public void exportReservations(Writer writer, BulkFormat format) {
+        try {
+            if (format == BulkFormat.CSV) {
+                writer.write(ReservationBulkCodec.CSV_HEADER);
+                writer.write('\n');
             }
+            batchRepository.forEach(reservation -> {
+                try {
+                    writer.write(bulkCodec.format(reservationMapper.toResponse(reservation), format));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 
-            var overlappingList = reservationRepository.findOverlappingByLicensePlate(
-                    request.getLicensePlate(),
-                    startTime,
-                    endTime
-            );
+    @Override
+    @Transactional(isolation = Isolation.SERIALIZABLE)
+    public ReservationResponse rescheduleReservation(String reservationId, LocalDateTime newStartTime) {
+        reservationLock.lock();
+        try {
+            bookingRules.checkFuture(newStartTime);
 
-            if (!overlappingList.isEmpty()) {
-                throw new ReservationConflictException(String.format(MSG_RESERVATION_CONFLICT, request.getLicensePlate()));
+            var reservation = reservationRepository.findById(reservationId)
+                    .orElseThrow(() -> new ReservationNotFoundException(
+                            MSG_RESERVATION_NOT_FOUND + reservationId));
+            var startTime = getInstant(newStartTime);
+            if (startTime.equals(reservation.getStartTime())) {
+                return reservationMapper.toResponse(reservation);
             }
 
-            checkCapacity(startTime, endTime);
+            var endTime = getTimeOneHourLater(startTime);
+            var previous = new ParkingReservation(reservation.getId(), reservation.getSpaceId(),
+                    reservation.getStartTime(), reservation.getEndTime(), reservation.getLicensePlate(),
+                    reservation.toSpaceFilter());
+            plateIndex.remove(previous);
+            int spaceId;
+            try {
+                bookingRules.checkPlateConflicts(previous.getLicensePlate(), startTime, endTime);
+                spaceId = findRescheduledSpace(previous, startTime, endTime);
+            } catch (RuntimeException ex) {
+                plateIndex.add(previous);
+                throw ex;
+            }
 
-            var spaceId = findAvailableSpace(startTime, endTime);
-            var reservation = new ParkingReservation(spaceId, startTime, endTime, request.getLicensePlate());
-            var saved = reservationRepository.save(reservation);
+            reservation.setSpaceId(spaceId);
+            reservation.setStartTime(startTime);
+            reservation.setEndTime(endTime);
+            outbox.record(ChangeType.RESCHEDULED, reservation);
+            plateIndex.add(reservation);
+            onRollback(() -> {
+                plateIndex.remove(reservation);
+                plateIndex.add(previous);
+            });
+            afterCommit(() -> {
+                versions.bump(previous.getStartTime());
+                versions.bump(startTime);
+            });
 
-            return reservationMapper.toResponse(saved);
+            promoteWaitlist(previous);
+            return reservationMapper.toResponse(reservation);
+        } finally {
+            reservationLock.unlock();
         }
     }
 
     @Override
     @Transactional
     public void cancelReservation(String reservationId) {
-        synchronized (reservationLock) {
-            var reservation = reservationRepository.findById(reservationId)
-                    .orElseThrow(() -> new ReservationNotFoundException(
-                            MSG_RESERVATION_NOT_FOUND + reservationId));
+        var event = new ReservationCancelEvent();
+        event.begin();
+        event.setReservationId(reservationId);
+        var lockRequested = System.nanoTime();
+        reservationLock.lock();
+        try {
+            event.setLockWait(System.nanoTime() - lockRequested);
+            try {
+                var reservation = reservationRepository.findById(reservationId)
+                        .orElseThrow(() -> new ReservationNotFoundException(
+                                MSG_RESERVATION_NOT_FOUND + reservationId));
 
-            reservationRepository.delete(reservation);
+                reservationRepository.delete(reservation);
+                outbox.record(ChangeType.CANCELLED, reservation);
+                plateIndex.remove(reservation);
+                onRollback(() -> plateIndex.add(reservation));
+                afterCommit(() -> versions.bump(reservation.getStartTime()));
+
+                event.setPromoted(promoteWaitlist(reservation));
+                event.setOutcome(ParkingOperationEvent.SUCCESS);
+            } catch (RuntimeException ex) {
+                event.setOutcome(ParkingOperationEvent.outcomeOf(ex));
+                throw ex;
+            } finally {
+                commitAfterTransaction(event);
+            }
+        } finally {
+            reservationLock.unlock();
+        }
+    }
+
+    @Override
+    @Transactional
+    public BulkCancelResponse cancelReservationsByLicensePlate(String licensePlate) {
+        reservationLock.lock();
+        try {
+            var now = Instant.now();
+            return cancelAll(plateIndex.findByLicensePlate(licensePlate).stream()
+                    .filter(reservation -> reservation.getEndTime().isAfter(now))
+                    .toList());
+        } finally {
+            reservationLock.unlock();
+        }
+    }
+
+    @Override
+    @Transactional
+    public BulkCancelResponse cancelReservationsBySlotRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidSlotRangeException(MSG_INVALID_SLOT_RANGE);
+        }
+        reservationLock.lock();
+        try {
+            return cancelAll(reservationRepository.findAllStartingBetween(getInstant(from), getInstant(to)));
+        } finally {
+            reservationLock.unlock();
+        }
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.SERIALIZABLE)
+    public WaitlistResponse joinWaitlist(ReservationRequest request) {
+        var event = new ReservationAttemptEvent();
+        event.begin();
+        var lockRequested = System.nanoTime();
+        reservationLock.lock();
+        try {
+            event.setLockWait(System.nanoTime() - lockRequested);
+            try {
+                bookingRules.checkFuture(request.getStartTime());
+
+                var startTime = getInstant(request.getStartTime());
+                var endTime = getTimeOneHourLater(startTime);
+                event.setSlotStart(startTime.toEpochMilli());
+
+                var phaseStart = System.nanoTime();
+                bookingRules.checkPlateConflicts(request.getLicensePlate(), startTime, endTime);
+                if (waitlistRepository.existsWaitingOverlappingByLicensePlate(request.getLicensePlate(), startTime, endTime)) {
+                    throw new ReservationConflictException(String.format(MSG_WAITLIST_CONFLICT, request.getLicensePlate()));
+                }
+                event.setPlateCheck(System.nanoTime() - phaseStart);
+
+                try {
+                    var saved = reserve(request.getLicensePlate(), startTime, endTime, request.toSpaceFilter(), event);
+                    var entry = new WaitlistEntry(startTime, endTime, request.getLicensePlate(), request.toSpaceFilter());
+                    entry.promote(saved.getId());
+                    entry = waitlistRepository.save(entry);
+                    event.setOutcome(ParkingOperationEvent.SUCCESS);
+                    return toWaitlistResponse(entry);
+                } catch (ParkingFullException ex) {
+                    var entry = waitlistRepository.save(new WaitlistEntry(startTime, endTime, request.getLicensePlate(), request.toSpaceFilter()));
+                    event.setOutcome(ParkingOperationEvent.WAITLISTED);
+                    return toWaitlistResponse(entry);
+                }
+            } catch (RuntimeException ex) {
+                event.setOutcome(ParkingOperationEvent.outcomeOf(ex));
+                throw ex;
+            } finally {
+                commitAfterTransaction(event);
+            }
+        } finally {
+            reservationLock.unlock();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WaitlistResponse getWaitlistEntry(String entryId) {
+        var entry = waitlistRepository.findById(entryId)
+                .orElseThrow(() -> new WaitlistEntryNotFoundException(MSG_WAITLIST_ENTRY_NOT_FOUND + entryId));
+        return toWaitlistResponse(entry);
+    }
+
+    @Override
+    @Transactional
+    public void leaveWaitlist(String entryId) {
+        reservationLock.lock();
+        try {
+            var entry = waitlistRepository.findById(entryId)
+                    .filter(e -> e.getStatus() == WaitlistStatus.WAITING)
+                    .orElseThrow(() -> new WaitlistEntryNotFoundException(MSG_WAITLIST_ENTRY_NOT_FOUND + entryId));
+
+            waitlistRepository.delete(entry);
+        } finally {
+            reservationLock.unlock();
         }
     }
 
@@ -105,35 +437,316 @@ public class ParkingServiceImpl implements ParkingService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ReservationResponse> getReservationsByLicensePlate(String licensePlate) {
+        return plateIndex.findByLicensePlate(licensePlate).stream()
+                .sorted(Comparator.comparing(ParkingReservation::getStartTime))
+                .map(reservationMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<ReservationResponse> getReservationHistoryByLicensePlate(String licensePlate) {
+        return reservationRepository.findAllByLicensePlate(licensePlate).stream()
+                .map(reservationMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<ReservationResponse> getReservationsBySlot(LocalDateTime slotStart) {
+        var startTime = getInstant(slotStart);
+        return reservationRepository.findAllByTimeRange(startTime, getTimeOneHourLater(startTime)).stream()
+                .sorted(Comparator.comparing(ParkingReservation::getStartTime))
+                .map(reservationMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<Integer> getFreeSpaces(LocalDateTime slotStart, SpaceFilter filter) {
+        var startTime = getInstant(slotStart);
+        var occupiedSpaces = occupiedSpaces(startTime, getTimeOneHourLater(startTime));
+        return bookingRules.freeSpaces(occupiedSpaces, filter);
+    }
+
+    @Override
+    public String getReservationsVersion() {
+        return versions.current();
+    }
+
+    @Override
+    public String getSlotVersion(LocalDateTime slotStart) {
+        var startTime = getInstant(slotStart);
+        return versions.forSlot(startTime, getTimeOneHourLater(startTime));
+    }
+
+    @Override
+    public CompletableFuture<String> awaitSlotChange(LocalDateTime slotStart, String knownVersion, Duration timeout) {
+        return versions.awaitSlotChange(getInstant(slotStart), knownVersion, timeout);
+    }
+
     @Override
     public int getTotalSpaces() {
-        return parkingSpaces.size();
+        return parkingLot.getTotalSpaces();
     }
 
-    private void checkCapacity(Instant startTime, Instant endTime) {
-        var reservationCount = reservationRepository.countByTimeRange(startTime, endTime);
-        var maxReservations = (int) (parkingSpaces.size() * MAX_CAPACITY_PERCENTAGE);
-        if (reservationCount >= maxReservations) {
-            throw new ParkingFullException(MSG_MAX_CAPACITY);
+    @Override
+    public <T> T executeExclusively(Supplier<T> action) {
+        reservationLock.lock();
+        try {
+            return action.get();
+        } finally {
+            reservationLock.unlock();
         }
     }
 
-    private int findAvailableSpace(Instant startTime, Instant endTime) {
-        var conflictingReservations = reservationRepository.findAllByTimeRange(startTime, endTime);
-        var occupiedSpaces = new HashSet<Integer>();
+    private ParkingReservation book(ReservationRequest request, ReservationAttemptEvent event) {
+        bookingRules.checkFuture(request.getStartTime());
 
-        conflictingReservations.forEach(r -> occupiedSpaces.add(r.getSpaceId()));
+        var startTime = getInstant(request.getStartTime());
+        var endTime = getTimeOneHourLater(startTime);
+        event.setSlotStart(startTime.toEpochMilli());
 
-        var totalSpaces = parkingSpaces.size();
-        var availableSpaces = IntStream.rangeClosed(1, totalSpaces)
-                .filter(spaceId -> !occupiedSpaces.contains(spaceId))
-                .boxed()
-                .toList();
+        var phaseStart = System.nanoTime();
+        bookingRules.checkPlateConflicts(request.getLicensePlate(), startTime, endTime);
+        event.setPlateCheck(System.nanoTime() - phaseStart);
+
+        return reserve(request.getLicensePlate(), startTime, endTime, request.toSpaceFilter(), event);
+    }
+
+    /**
+     * Books the batch in one transaction. If that transaction fails as a whole (the commit, typically), every
+     * booking in it was rolled back, so the ones that had succeeded are retried one transaction each instead of
+     * failing with their neighbours.
+     */
+    private void createReservationBatch(List<PendingReservation> batch) {
+        var responses = new ReservationResponse[batch.size()];
+        var failures = new RuntimeException[batch.size()];
+        try {
+            bookBatch(batch, responses, failures);
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                throw ex;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                var pending = batch.get(i);
+                if (failures[i] != null) {
+                    pending.result().completeExceptionally(failures[i]);
+                    continue;
+                }
+                try {
+                    createReservationBatch(List.of(pending));
+                } catch (RuntimeException retryFailure) {
+                    pending.result().completeExceptionally(retryFailure);
+                }
+            }
+            return;
+        }
+        completeBatch(batch, responses, failures);
+    }
+
+    private void bookBatch(List<PendingReservation> batch, ReservationResponse[] responses,
+                           RuntimeException[] failures) {
+        bookingTransactionTemplate.executeWithoutResult(status -> {
+            var lockRequested = System.nanoTime();
+            reservationLock.lock();
+            try {
+                var lockWait = System.nanoTime() - lockRequested;
+                for (int i = 0; i < batch.size(); i++) {
+                    var event = new ReservationAttemptEvent();
+                    event.begin();
+                    event.setLockWait(lockWait);
+                    try {
+                        responses[i] = reservationMapper.toResponse(book(batch.get(i).request(), event));
+                        event.setOutcome(ParkingOperationEvent.SUCCESS);
+                    } catch (RuntimeException ex) {
+                        failures[i] = ex;
+                        event.setOutcome(ParkingOperationEvent.outcomeOf(ex));
+                    } finally {
+                        commitAfterTransaction(event);
+                    }
+                }
+            } finally {
+                reservationLock.unlock();
+            }
+        });
+    }
 
-        if (availableSpaces.isEmpty()) {
-            throw new ParkingFullException(MSG_NO_SPACE_AVAILABLE);
+    private static void completeBatch(List<PendingReservation> batch, ReservationResponse[] responses,
+                                      RuntimeException[] failures) {
+        for (int i = 0; i < batch.size(); i++) {
+            var result = batch.get(i).result();
+            if (failures[i] != null) {
+                result.completeExceptionally(failures[i]);
+            } else {
+                result.complete(responses[i]);
+            }
         }
+    }
+
+    private ParkingReservation reserve(String licensePlate, Instant startTime, Instant endTime, SpaceFilter filter,
+                                       ReservationAttemptEvent event) {
+        var phaseStart = System.nanoTime();
+        bookingRules.checkCapacity(reservationRepository.countByTimeRange(startTime, endTime));
+        event.setCapacityQuery(System.nanoTime() - phaseStart);
+
+        phaseStart = System.nanoTime();
+        var spaceId = bookingRules.allocateSpace(
+                occupiedSpaces(startTime, endTime), licensePlate, startTime, endTime, filter);
+        event.setAllocation(System.nanoTime() - phaseStart);
+        event.setSpaceId(spaceId);
 
-        return availableSpaces.get(random.nextInt(availableSpaces.size()));
+        phaseStart = System.nanoTime();
+        var saved = persist(new ParkingReservation(spaceId, startTime, endTime, licensePlate, filter));
+        event.setPersist(System.nanoTime() - phaseStart);
+        return saved;
+    }
+
+    private ParkingReservation persist(ParkingReservation reservation) {
+        var saved = reservationRepository.save(reservation);
+        outbox.record(ChangeType.CREATED, saved);
+        plateIndex.add(saved);
+        onRollback(() -> plateIndex.remove(saved));
+        afterCommit(() -> versions.bump(saved.getStartTime()));
+        return saved;
+    }
+
+    private BulkCancelResponse cancelAll(List<ParkingReservation> cancelled) {
+        if (cancelled.isEmpty()) {
+            return new BulkCancelResponse(0, 0);
+        }
+
+        reservationRepository.deleteAllByIdInBatch(cancelled.stream().map(ParkingReservation::getId).toList());
+        outbox.record(ChangeType.CANCELLED, cancelled);
+        cancelled.forEach(plateIndex::remove);
+        onRollback(() -> cancelled.forEach(plateIndex::add));
+        afterCommit(() -> cancelled.forEach(r -> versions.bump(r.getStartTime())));
+
+        var promoted = 0;
+        for (var reservation : cancelled) {
+            promoted += promoteWaitlist(reservation);
+        }
+        return new BulkCancelResponse(cancelled.size(), promoted);
+    }
+
+    private int promoteWaitlist(ParkingReservation cancelled) {
+        var promotedCount = 0;
+        var freedSpaceId = cancelled.getSpaceId();
+        if (!bookingRules.acceptsPromotions(freedSpaceId)) {
+            return 0;
+        }
+        var now = Instant.now();
+        var candidates = waitlistRepository.findWaitingByTimeRange(cancelled.getStartTime(), cancelled.getEndTime());
+
+        for (var entry : candidates) {
+            if (entry.isExpiredAt(now)) {
+                entry.expire();
+                waitlistRepository.save(entry);
+                continue;
+            }
+
+            var startTime = entry.getStartTime();
+            var endTime = entry.getEndTime();
+            if (!bookingRules.isPromotable(entry, freedSpaceId)
+                    || !bookingRules.hasCapacity(reservationRepository.countByTimeRange(startTime, endTime))) {
+                continue;
+            }
+
+            if (reservationRepository.existsBySpaceIdAndTimeRange(freedSpaceId, startTime, endTime)) {
+                continue;
+            }
+
+            var promoted = persist(new ParkingReservation(freedSpaceId, startTime, endTime, entry.getLicensePlate(),
+                    entry.toSpaceFilter()));
+            entry.promote(promoted.getId());
+            waitlistRepository.save(entry);
+            promotedCount++;
+        }
+        return promotedCount;
+    }
+
+    private WaitlistResponse toWaitlistResponse(WaitlistEntry entry) {
+        var response = reservationMapper.toWaitlistResponse(entry);
+        if (entry.isExpiredAt(Instant.now())) {
+            response.setStatus(WaitlistStatus.EXPIRED);
+        } else if (entry.getStatus() == WaitlistStatus.WAITING) {
+            response.setPosition(waitlistRepository.countWaitingAheadInSlot(entry.getStartTime(), entry.getCreatedAt()));
+        }
+        return response;
+    }
+
+    private int findRescheduledSpace(ParkingReservation previous, Instant startTime, Instant endTime) {
+        var overlapsPrevious = previous.getStartTime().isBefore(endTime) && previous.getEndTime().isAfter(startTime);
+        bookingRules.checkCapacity(
+                reservationRepository.countByTimeRange(startTime, endTime) - (overlapsPrevious ? 1 : 0));
+
+        var occupiedSpaces = new BitSet(parkingLot.getTotalSpaces() + 1);
+        var skipPrevious = overlapsPrevious;
+        for (var spaceId : reservationRepository.findSpaceIdsByTimeRange(startTime, endTime)) {
+            if (skipPrevious && spaceId == previous.getSpaceId()) {
+                skipPrevious = false;
+                continue;
+            }
+            occupiedSpaces.set(spaceId);
+        }
+
+        return bookingRules.rescheduledSpace(previous.getSpaceId(), occupiedSpaces, previous.getLicensePlate(),
+                startTime, endTime, previous.toSpaceFilter());
+    }
+
+    private BitSet occupiedSpaces(Instant startTime, Instant endTime) {
+        var occupiedSpaces = new BitSet(parkingLot.getTotalSpaces() + 1);
+        for (var spaceId : reservationRepository.findSpaceIdsByTimeRange(startTime, endTime)) {
+            occupiedSpaces.set(spaceId);
+        }
+        return occupiedSpaces;
+    }
+
+    private void commitAfterTransaction(ParkingOperationEvent event) {
+        if (!event.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            event.commit();
+            return;
+        }
+
+        var transactionEnd = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                event.setTransactionCommit(System.nanoTime() - transactionEnd);
+                if (status != STATUS_COMMITTED && ParkingOperationEvent.SUCCESS.equals(event.getOutcome())) {
+                    event.setOutcome(ParkingOperationEvent.ROLLED_BACK);
+                }
+                event.commit();
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void onRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    compensation.run();
+                }
+            }
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.repository.ReservationVersions;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.parking.util.Constants.ONE_HOUR_IN_SECONDS;
+
+/**
+ * Keeps the plate index bounded to reservations that have not ended, dropping finished ones every
+ * {@code parking.plate-index.prune-interval}, and forgets the versions of slots that have ended.
+ */
+@Slf4j
+@Component
+public class PlateIndexPruner {
+
+    private final ReservationPlateIndex plateIndex;
+    private final ReservationVersions versions;
+    private final Duration interval;
+    private final Clock clock = Clock.systemUTC();
+    private ScheduledExecutorService scheduler;
+
+    public PlateIndexPruner(ReservationPlateIndex plateIndex, ReservationVersions versions,
+                            @Value("${parking.plate-index.prune-interval:5m}") Duration interval) {
+        this.plateIndex = plateIndex;
+        this.versions = versions;
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("plate-index-pruner").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::pruneQuietly,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public int prune() {
+        var now = clock.instant();
+        var removed = plateIndex.removeEndedBy(now);
+        removed.forEach(reservation -> versions.bump(reservation.getStartTime()));
+        versions.pruneBefore(now.minusSeconds(ONE_HOUR_IN_SECONDS));
+        return removed.size();
+    }
+
+    private void pruneQuietly() {
+        try {
+            prune();
+        } catch (RuntimeException ex) {
+            log.warn("Pruning ended reservations and slot versions failed", ex);
+        }
+    }
+}
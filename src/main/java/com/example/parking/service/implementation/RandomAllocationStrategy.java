@@ -0,0 +1,53 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks uniformly among the free spaces, like the original list-based allocation: the k-th clear bit in
+ * {@code 1..totalSpaces} with {@code k} drawn from the number of free spaces. Probing a random space and taking
+ * the next free one would favour spaces that follow a run of occupied ones. A few rejection-sampled probes come
+ * first; each accepted probe is uniform over the free spaces too, so the walk only runs in nearly full slots.
+ */
+public class RandomAllocationStrategy implements SpaceAllocationStrategy {
+
+    private static final int MAX_PROBES = 16;
+
+    @Override
+    public int allocate(BitSet occupiedSpaces, int totalSpaces, String licensePlate, Instant startTime, Instant endTime) {
+        var random = ThreadLocalRandom.current();
+        for (var probe = 0; probe < MAX_PROBES; probe++) {
+            var spaceId = random.nextInt(1, totalSpaces + 1);
+            if (!occupiedSpaces.get(spaceId)) {
+                return spaceId;
+            }
+        }
+
+        var freeCount = totalSpaces - occupiedCount(occupiedSpaces, totalSpaces);
+        if (freeCount <= 0) {
+            return NO_SPACE;
+        }
+
+        var k = random.nextInt(freeCount);
+        var spaceId = occupiedSpaces.nextClearBit(1);
+        for (var i = 0; i < k; i++) {
+            spaceId = occupiedSpaces.nextClearBit(spaceId + 1);
+        }
+        return spaceId;
+    }
+
+    private static int occupiedCount(BitSet occupiedSpaces, int totalSpaces) {
+        var count = occupiedSpaces.cardinality();
+        if (occupiedSpaces.get(0)) {
+            count--;
+        }
+        for (var spaceId = occupiedSpaces.nextSetBit(totalSpaces + 1); spaceId >= 0;
+             spaceId = occupiedSpaces.nextSetBit(spaceId + 1)) {
+            count--;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.model.ReservationRequest;
+import com.example.parking.model.ReservationResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+class ReservationBatchProcessor implements AutoCloseable {
+
+    record PendingReservation(ReservationRequest request, CompletableFuture<ReservationResponse> result) {
+    }
+
+    private final Map<LocalDateTime, ArrayDeque<PendingReservation>> queuesBySlot = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Consumer<List<PendingReservation>> batchHandler;
+    private final int maxBatchSize;
+
+    ReservationBatchProcessor(Consumer<List<PendingReservation>> batchHandler, int maxBatchSize) {
+        this.batchHandler = batchHandler;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    CompletableFuture<ReservationResponse> submit(ReservationRequest request) {
+        var pending = new PendingReservation(request, new CompletableFuture<>());
+        var slot = request.getStartTime();
+        var startWriter = new boolean[1];
+
+        queuesBySlot.compute(slot, (key, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                startWriter[0] = true;
+            }
+            queue.add(pending);
+            return queue;
+        });
+
+        if (startWriter[0]) {
+            executor.execute(() -> drain(slot));
+        }
+        return pending.result();
+    }
+
+    private void drain(LocalDateTime slot) {
+        while (true) {
+            var batch = new ArrayList<PendingReservation>(maxBatchSize);
+            var remaining = queuesBySlot.computeIfPresent(slot, (key, queue) -> {
+                while (batch.size() < maxBatchSize && !queue.isEmpty()) {
+                    batch.add(queue.poll());
+                }
+                return batch.isEmpty() ? null : queue;
+            });
+
+            if (remaining == null && batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                batchHandler.accept(batch);
+            } catch (RuntimeException ex) {
+                batch.forEach(pending -> pending.result().completeExceptionally(ex));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.exception.RateLimitExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static com.example.parking.util.Constants.MSG_RATE_LIMITED_CLIENT;
+import static com.example.parking.util.Constants.MSG_RATE_LIMITED_PLATE;
+import static com.example.parking.util.LicensePlateUtil.normalize;
+
+/**
+ * Rejects booking attempts from API clients and license plates that exceed their rate, before they reach
+ * the booking lock or the database.
+ */
+@Component
+public class ReservationRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter clientBuckets;
+    private final TokenBucketRateLimiter plateBuckets;
+
+    public ReservationRateLimiter(@Value("${parking.rate-limit.enabled:true}") boolean enabled,
+                                  @Value("${parking.rate-limit.client.per-minute:12000}") int clientPerMinute,
+                                  @Value("${parking.rate-limit.client.burst:1000}") int clientBurst,
+                                  @Value("${parking.rate-limit.plate.per-minute:60}") int platePerMinute,
+                                  @Value("${parking.rate-limit.plate.burst:10}") int plateBurst,
+                                  @Value("${parking.rate-limit.max-keys:100000}") int maxKeys) {
+        this.enabled = enabled;
+        this.clientBuckets = new TokenBucketRateLimiter(clientPerMinute, clientBurst, maxKeys);
+        this.plateBuckets = new TokenBucketRateLimiter(platePerMinute, plateBurst, maxKeys);
+    }
+
+    public void checkBookingAttempt(String clientId, String licensePlate) {
+        if (!enabled) {
+            return;
+        }
+        var wait = clientBuckets.tryAcquire(clientId);
+        if (wait > 0) {
+            throw new RateLimitExceededException(MSG_RATE_LIMITED_CLIENT, Duration.ofNanos(wait));
+        }
+        if (licensePlate != null) {
+            wait = plateBuckets.tryAcquire(normalize(licensePlate));
+            if (wait > 0) {
+                throw new RateLimitExceededException(MSG_RATE_LIMITED_PLATE.formatted(licensePlate), Duration.ofNanos(wait));
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.repository.ReservationBatchRepository;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.service.contract.ParkingService;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.parking.util.PartitionUtil.partitionOf;
+import static com.example.parking.util.PartitionUtil.partitionStart;
+
+/**
+ * Drops reservation partitions older than {@code parking.retention.keep-days} (0 keeps everything).
+ * Only the database engine is covered. The single-writer engine keeps all history: every reservation stays in
+ * its in-memory maps and its journal table, and {@code load()} reads all of them back on start.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "parking.engine", havingValue = "database", matchIfMissing = true)
+public class ReservationRetention {
+
+    private final ReservationBatchRepository batchRepository;
+    private final ReservationPlateIndex plateIndex;
+    private final ParkingService parkingService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int keepDays;
+    private final Duration interval;
+    private final Clock clock = Clock.systemUTC();
+    private ScheduledExecutorService scheduler;
+
+    public ReservationRetention(ReservationBatchRepository batchRepository, ReservationPlateIndex plateIndex,
+                                ParkingService parkingService, PlatformTransactionManager transactionManager,
+                                EntityManagerFactory entityManagerFactory,
+                                @Value("${parking.retention.keep-days:0}") int keepDays,
+                                @Value("${parking.retention.interval:1h}") Duration interval) {
+        this.batchRepository = batchRepository;
+        this.plateIndex = plateIndex;
+        this.parkingService = parkingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.keepDays = keepDays;
+        this.interval = interval;
+    }
+
+    /**
+     * Scheduled once the context is up, like the outbox relay, so the first run does not create beans while the
+     * context is still refreshing.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (keepDays <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("reservation-retention").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::dropExpiredQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Drops the partitions under the booking lock and in its own transaction; the plate index and the entity
+     * cache are only pruned once the delete has committed.
+     */
+    public int dropPartitionsBefore(long partition) {
+        return parkingService.executeExclusively(() -> {
+            var dropped = transactionTemplate.execute(status -> batchRepository.dropPartitionsBefore(partition));
+            plateIndex.removeStartingBefore(partitionStart(partition));
+            entityManagerFactory.getCache().evict(ParkingReservation.class);
+            return dropped;
+        });
+    }
+
+    private void dropExpiredQuietly() {
+        try {
+            var dropped = dropPartitionsBefore(partitionOf(clock.instant()) - keepDays);
+            if (dropped > 0) {
+                log.info("Dropped {} reservations older than {} days", dropped, keepDays);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Dropping expired reservation partitions failed", ex);
+        }
+    }
+}
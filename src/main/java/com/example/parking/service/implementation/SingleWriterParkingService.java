@@ -0,0 +1,708 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.diagnostics.ParkingOperationEvent;
+import com.example.parking.diagnostics.ReservationAttemptEvent;
+import com.example.parking.diagnostics.ReservationCancelEvent;
+import com.example.parking.domain.ParkingLot;
+import com.example.parking.entity.ChangeType;
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.WaitlistEntry;
+import com.example.parking.entity.WaitlistStatus;
+import com.example.parking.exception.InvalidSlotRangeException;
+import com.example.parking.exception.ParkingFullException;
+import com.example.parking.exception.ReservationConflictException;
+import com.example.parking.exception.ReservationNotFoundException;
+import com.example.parking.exception.WaitlistEntryNotFoundException;
+import com.example.parking.mapper.ReservationBulkCodec;
+import com.example.parking.mapper.ReservationMapper;
+import com.example.parking.model.BulkCancelResponse;
+import com.example.parking.model.BulkFormat;
+import com.example.parking.model.ImportResultResponse;
+import com.example.parking.model.RecurringReservationRequest;
+import com.example.parking.model.ReservationRequest;
+import com.example.parking.model.ReservationResponse;
+import com.example.parking.model.WaitlistResponse;
+import com.example.parking.repository.ReservationJournal;
+import com.example.parking.repository.ReservationOutbox;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.repository.ReservationVersions;
+import com.example.parking.service.contract.ParkingService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.example.parking.util.Constants.*;
+import static com.example.parking.util.LicensePlateUtil.normalize;
+import static com.example.parking.util.TimeUtil.getInstant;
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+
+@Service
+@ConditionalOnProperty(name = "parking.engine", havingValue = "single-writer")
+public class SingleWriterParkingService implements ParkingService {
+
+    private final ReservationMapper reservationMapper;
+    private final ReservationBulkCodec bulkCodec;
+    private final ParkingLot parkingLot;
+    private final ReservationPlateIndex plateIndex;
+    private final BookingRules bookingRules;
+    private final ReservationJournal journal;
+    private final ReservationVersions versions;
+    private final BookingEngine engine;
+
+    /**
+     * Reservations as of the last successful journal write; this is what readers outside the engine thread see.
+     * The engine thread sees its own unflushed changes on top of it through {@link #find} and
+     * {@link #currentReservations}. Occupancy, the waitlist and plate lookups are only read on the engine thread.
+     */
+    private volatile Map<String, ParkingReservation> reservations = new ConcurrentHashMap<>();
+    private volatile Map<String, WaitlistEntry> waitlist = new ConcurrentHashMap<>();
+    private OccupancySnapshot occupancy = new OccupancySnapshot();
+
+    private final Map<String, ParkingReservation> pendingInserts = new LinkedHashMap<>();
+    private final Set<String> pendingDeletes = new HashSet<>();
+    private final List<ReservationOutbox.Change> pendingChanges = new ArrayList<>();
+    private final Map<String, WaitlistEntry> pendingWaitlistSaves = new LinkedHashMap<>();
+    private final Set<String> pendingWaitlistDeletes = new HashSet<>();
+    private final List<Instant> pendingVersionBumps = new ArrayList<>();
+
+    public SingleWriterParkingService(ReservationMapper reservationMapper, ReservationBulkCodec bulkCodec,
+                                      ParkingLot parkingLot, ReservationPlateIndex plateIndex,
+                                      BookingRules bookingRules, ReservationJournal journal,
+                                      ReservationVersions versions) {
+        this.reservationMapper = reservationMapper;
+        this.bulkCodec = bulkCodec;
+        this.parkingLot = parkingLot;
+        this.plateIndex = plateIndex;
+        this.bookingRules = bookingRules;
+        this.journal = journal;
+        this.versions = versions;
+        this.engine = new BookingEngine("booking-engine", ENGINE_RING_BUFFER_SIZE, ENGINE_BATCH_SIZE,
+                this::flush, this::load);
+    }
+
+    @PostConstruct
+    public void start() {
+        load();
+        engine.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        engine.close();
+    }
+
+    public void reload() {
+        engine.execute(() -> {
+            load();
+            return null;
+        });
+    }
+
+    @Override
+    public ReservationResponse createReservation(ReservationRequest request) {
+        var event = new ReservationAttemptEvent();
+        event.begin();
+        try {
+            var response = engine.execute(book(request, event));
+            event.setOutcome(ParkingOperationEvent.SUCCESS);
+            return response;
+        } catch (RuntimeException ex) {
+            event.setOutcome(ParkingOperationEvent.outcomeOf(ex));
+            throw ex;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Override
+    public CompletableFuture<ReservationResponse> createReservationAsync(ReservationRequest request) {
+        var event = new ReservationAttemptEvent();
+        event.begin();
+        Supplier<ReservationResponse> booking;
+        try {
+            booking = book(request, event);
+        } catch (RuntimeException ex) {
+            event.setOutcome(ParkingOperationEvent.outcomeOf(ex));
+            event.commit();
+            return CompletableFuture.failedFuture(ex);
+        }
+        return engine.submit(booking).whenComplete((response, ex) -> {
+            event.setOutcome(ex == null ? ParkingOperationEvent.SUCCESS : ParkingOperationEvent.outcomeOf(ex));
+            event.commit();
+        });
+    }
+
+    @Override
+    public List<ReservationResponse> createRecurringReservation(RecurringReservationRequest request) {
+        bookingRules.checkFuture(request.getStartTime());
+        var slotStarts = bookingRules.slotStarts(request);
+
+        return engine.execute(() -> {
+            bookingRules.checkPlateConflicts(request.getLicensePlate(), slotStarts);
+            var created = bookingRules.allocateRecurring(request.getLicensePlate(), slotStarts, occupancy);
+            created.forEach(this::insert);
+            return created.stream()
+                    .map(reservationMapper::toResponse)
+                    .toList();
+        });
+    }
+
+    @Override
+    public ImportResultResponse importReservations(BufferedReader reader, BulkFormat format) {
+        var now = LocalDateTime.now();
+        var imported = 0L;
+        var rejected = 0L;
+        var errors = new ArrayList<ImportResultResponse.ImportError>();
+        var lineNumbers = new ArrayList<Long>(IMPORT_BATCH_SIZE);
+        var rows = new ArrayList<ReservationResponse>(IMPORT_BATCH_SIZE);
+        var lineNumber = 0L;
+
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || bulkCodec.isHeader(line, format)) {
+                    continue;
+                }
+
+                try {
+                    rows.add(bulkCodec.parse(line, format));
+                    lineNumbers.add(lineNumber);
+                } catch (IllegalArgumentException ex) {
+                    rejected++;
+                    addImportError(errors, lineNumber, ex.getMessage());
+                }
+
+                if (rows.size() == IMPORT_BATCH_SIZE) {
+                    var chunkErrors = importChunk(rows, lineNumbers, now);
+                    imported += rows.size() - chunkErrors.size();
+                    rejected += chunkErrors.size();
+                    chunkErrors.forEach(error -> addImportError(errors, error.getLine(), error.getMessage()));
+                    rows.clear();
+                    lineNumbers.clear();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        if (!rows.isEmpty()) {
+            var chunkErrors = importChunk(rows, lineNumbers, now);
+            imported += rows.size() - chunkErrors.size();
+            rejected += chunkErrors.size();
+            chunkErrors.forEach(error -> addImportError(errors, error.getLine(), error.getMessage()));
+        }
+
+        errors.sort(Comparator.comparingLong(ImportResultResponse.ImportError::getLine));
+        return new ImportResultResponse(imported, rejected, errors);
+    }
+
+    @Override
+    public void exportReservations(Writer writer, BulkFormat format) {
+        try {
+            if (format == BulkFormat.CSV) {
+                writer.write(ReservationBulkCodec.CSV_HEADER);
+                writer.write('\n');
+            }
+            var sorted = reservations.values().stream()
+                    .sorted(Comparator.comparing(ParkingReservation::getStartTime))
+                    .toList();
+            for (var reservation : sorted) {
+                writer.write(bulkCodec.format(reservationMapper.toResponse(reservation), format));
+                writer.write('\n');
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public ReservationResponse rescheduleReservation(String reservationId, LocalDateTime newStartTime) {
+        bookingRules.checkFuture(newStartTime);
+
+        var startTime = getInstant(newStartTime);
+        var endTime = getTimeOneHourLater(startTime);
+        return engine.execute(() -> {
+            var previous = find(reservationId);
+            if (previous == null) {
+                throw new ReservationNotFoundException(MSG_RESERVATION_NOT_FOUND + reservationId);
+            }
+            if (startTime.equals(previous.getStartTime())) {
+                return reservationMapper.toResponse(previous);
+            }
+
+            occupancy.remove(previous.getStartTime(), previous.getSpaceId());
+            plateIndex.remove(previous);
+            int spaceId;
+            try {
+                bookingRules.checkPlateConflicts(previous.getLicensePlate(), startTime, endTime);
+                bookingRules.checkCapacity(occupancy.count(startTime, endTime));
+                spaceId = bookingRules.rescheduledSpace(previous.getSpaceId(), occupancy.occupied(startTime, endTime),
+                        previous.getLicensePlate(), startTime, endTime, previous.toSpaceFilter());
+            } catch (RuntimeException ex) {
+                occupancy.add(previous.getStartTime(), previous.getSpaceId());
+                plateIndex.add(previous);
+                throw ex;
+            }
+
+            var moved = new ParkingReservation(previous.getId(), spaceId, startTime, endTime,
+                    previous.getLicensePlate(), previous.toSpaceFilter());
+            move(previous, moved);
+            promoteWaitlist(previous);
+            return reservationMapper.toResponse(moved);
+        });
+    }
+
+    @Override
+    public void cancelReservation(String reservationId) {
+        var event = new ReservationCancelEvent();
+        event.begin();
+        event.setReservationId(reservationId);
+        var submitted = System.nanoTime();
+        try {
+            engine.execute(() -> {
+                event.setLockWait(System.nanoTime() - submitted);
+                var reservation = find(reservationId);
+                if (reservation == null) {
+                    throw new ReservationNotFoundException(MSG_RESERVATION_NOT_FOUND + reservationId);
+                }
+
+                delete(reservation);
+                event.setPromoted(promoteWaitlist(reservation));
+                return null;
+            });
+            event.setOutcome(ParkingOperationEvent.SUCCESS);
+        } catch (RuntimeException ex) {
+            event.setOutcome(ParkingOperationEvent.outcomeOf(ex));
+            throw ex;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Override
+    public BulkCancelResponse cancelReservationsByLicensePlate(String licensePlate) {
+        return engine.execute(() -> {
+            var now = Instant.now();
+            return cancelAll(plateIndex.findByLicensePlate(licensePlate).stream()
+                    .filter(reservation -> reservation.getEndTime().isAfter(now))
+                    .toList());
+        });
+    }
+
+    @Override
+    public BulkCancelResponse cancelReservationsBySlotRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidSlotRangeException(MSG_INVALID_SLOT_RANGE);
+        }
+        var fromTime = getInstant(from);
+        var toTime = getInstant(to);
+        return engine.execute(() -> cancelAll(currentReservations()
+                .filter(reservation -> !reservation.getStartTime().isBefore(fromTime)
+                        && reservation.getStartTime().isBefore(toTime))
+                .toList()));
+    }
+
+    @Override
+    public WaitlistResponse joinWaitlist(ReservationRequest request) {
+        var event = new ReservationAttemptEvent();
+        event.begin();
+        try {
+            bookingRules.checkFuture(request.getStartTime());
+
+            var startTime = getInstant(request.getStartTime());
+            var endTime = getTimeOneHourLater(startTime);
+            var submitted = System.nanoTime();
+            return engine.execute(() -> {
+                event.setLockWait(System.nanoTime() - submitted);
+                event.setSlotStart(startTime.toEpochMilli());
+
+                var phaseStart = System.nanoTime();
+                bookingRules.checkPlateConflicts(request.getLicensePlate(), startTime, endTime);
+                if (existsWaitingOverlapping(request.getLicensePlate(), startTime, endTime)) {
+                    throw new ReservationConflictException(String.format(MSG_WAITLIST_CONFLICT, request.getLicensePlate()));
+                }
+                event.setPlateCheck(System.nanoTime() - phaseStart);
+
+                try {
+                    var saved = reserve(request.getLicensePlate(), startTime, endTime, request.toSpaceFilter(), event);
+                    var entry = new WaitlistEntry(startTime, endTime, request.getLicensePlate(), request.toSpaceFilter());
+                    entry.promote(saved.getId());
+                    saveWaitlistEntry(entry);
+                    event.setOutcome(ParkingOperationEvent.SUCCESS);
+                    return toWaitlistResponse(entry);
+                } catch (ParkingFullException ex) {
+                    var entry = new WaitlistEntry(startTime, endTime, request.getLicensePlate(), request.toSpaceFilter());
+                    saveWaitlistEntry(entry);
+                    event.setOutcome(ParkingOperationEvent.WAITLISTED);
+                    return toWaitlistResponse(entry);
+                }
+            });
+        } catch (RuntimeException ex) {
+            event.setOutcome(ParkingOperationEvent.outcomeOf(ex));
+            throw ex;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Override
+    public WaitlistResponse getWaitlistEntry(String entryId) {
+        return engine.execute(() -> {
+            var entry = waitlist.get(entryId);
+            if (entry == null) {
+                throw new WaitlistEntryNotFoundException(MSG_WAITLIST_ENTRY_NOT_FOUND + entryId);
+            }
+            return toWaitlistResponse(entry);
+        });
+    }
+
+    @Override
+    public void leaveWaitlist(String entryId) {
+        engine.execute(() -> {
+            var entry = waitlist.get(entryId);
+            if (entry == null || entry.getStatus() != WaitlistStatus.WAITING) {
+                throw new WaitlistEntryNotFoundException(MSG_WAITLIST_ENTRY_NOT_FOUND + entryId);
+            }
+
+            waitlist.remove(entryId);
+            if (pendingWaitlistSaves.remove(entryId) == null) {
+                pendingWaitlistDeletes.add(entryId);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public ReservationResponse getReservation(String reservationId) {
+        var reservation = reservations.get(reservationId);
+        if (reservation == null) {
+            throw new ReservationNotFoundException(MSG_RESERVATION_NOT_FOUND + reservationId);
+        }
+        return reservationMapper.toResponse(reservation);
+    }
+
+    @Override
+    public List<ReservationResponse> getAllReservations() {
+        return reservations.values().stream()
+                .map(reservationMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<ReservationResponse> getReservationsByLicensePlate(String licensePlate) {
+        return engine.execute(() -> plateIndex.findByLicensePlate(licensePlate).stream()
+                .sorted(Comparator.comparing(ParkingReservation::getStartTime))
+                .map(reservationMapper::toResponse)
+                .toList());
+    }
+
+    @Override
+    public List<ReservationResponse> getReservationHistoryByLicensePlate(String licensePlate) {
+        var plate = normalize(licensePlate);
+        return reservations.values().stream()
+                .filter(r -> plate.equals(normalize(r.getLicensePlate())))
+                .sorted(Comparator.comparing(ParkingReservation::getStartTime))
+                .map(reservationMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<ReservationResponse> getReservationsBySlot(LocalDateTime slotStart) {
+        var startTime = getInstant(slotStart);
+        var endTime = getTimeOneHourLater(startTime);
+        return reservations.values().stream()
+                .filter(r -> r.getStartTime().isBefore(endTime) && r.getEndTime().isAfter(startTime))
+                .sorted(Comparator.comparing(ParkingReservation::getStartTime))
+                .map(reservationMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<Integer> getFreeSpaces(LocalDateTime slotStart, SpaceFilter filter) {
+        var startTime = getInstant(slotStart);
+        return engine.execute(() -> bookingRules.freeSpaces(
+                (BitSet) occupancy.occupied(startTime, getTimeOneHourLater(startTime)).clone(), filter));
+    }
+
+    @Override
+    public String getReservationsVersion() {
+        return versions.current();
+    }
+
+    @Override
+    public String getSlotVersion(LocalDateTime slotStart) {
+        var startTime = getInstant(slotStart);
+        return versions.forSlot(startTime, getTimeOneHourLater(startTime));
+    }
+
+    @Override
+    public CompletableFuture<String> awaitSlotChange(LocalDateTime slotStart, String knownVersion, Duration timeout) {
+        return versions.awaitSlotChange(getInstant(slotStart), knownVersion, timeout);
+    }
+
+    @Override
+    public int getTotalSpaces() {
+        return parkingLot.getTotalSpaces();
+    }
+
+    @Override
+    public <T> T executeExclusively(Supplier<T> action) {
+        return engine.execute(action);
+    }
+
+    private Supplier<ReservationResponse> book(ReservationRequest request, ReservationAttemptEvent event) {
+        bookingRules.checkFuture(request.getStartTime());
+
+        var startTime = getInstant(request.getStartTime());
+        var endTime = getTimeOneHourLater(startTime);
+        var submitted = System.nanoTime();
+        return () -> {
+            event.setLockWait(System.nanoTime() - submitted);
+            event.setSlotStart(startTime.toEpochMilli());
+
+            var phaseStart = System.nanoTime();
+            bookingRules.checkPlateConflicts(request.getLicensePlate(), startTime, endTime);
+            event.setPlateCheck(System.nanoTime() - phaseStart);
+
+            var saved = reserve(request.getLicensePlate(), startTime, endTime, request.toSpaceFilter(), event);
+            return reservationMapper.toResponse(saved);
+        };
+    }
+
+    private ParkingReservation reserve(String licensePlate, Instant startTime, Instant endTime, SpaceFilter filter,
+                                       ReservationAttemptEvent event) {
+        var phaseStart = System.nanoTime();
+        bookingRules.checkCapacity(occupancy.count(startTime, endTime));
+        event.setCapacityQuery(System.nanoTime() - phaseStart);
+
+        phaseStart = System.nanoTime();
+        var spaceId = bookingRules.allocateSpace(
+                occupancy.occupied(startTime, endTime), licensePlate, startTime, endTime, filter);
+        event.setAllocation(System.nanoTime() - phaseStart);
+        event.setSpaceId(spaceId);
+
+        var reservation = new ParkingReservation(spaceId, startTime, endTime, licensePlate, filter);
+        insert(reservation);
+        return reservation;
+    }
+
+    private List<ImportResultResponse.ImportError> importChunk(List<ReservationResponse> rows, List<Long> lineNumbers,
+                                                               LocalDateTime now) {
+        var chunk = List.copyOf(rows);
+        var chunkLineNumbers = List.copyOf(lineNumbers);
+        return engine.execute(() -> {
+            var chunkErrors = new ArrayList<ImportResultResponse.ImportError>();
+            for (var i = 0; i < chunk.size(); i++) {
+                try {
+                    insert(bookingRules.toImportedReservation(chunk.get(i), now, occupancy, id -> find(id) != null));
+                } catch (IllegalArgumentException | ReservationConflictException | ParkingFullException ex) {
+                    chunkErrors.add(new ImportResultResponse.ImportError(chunkLineNumbers.get(i), ex.getMessage()));
+                }
+            }
+            return chunkErrors;
+        });
+    }
+
+    private void addImportError(List<ImportResultResponse.ImportError> errors, long lineNumber, String message) {
+        if (errors.size() < MAX_IMPORT_ERRORS) {
+            errors.add(new ImportResultResponse.ImportError(lineNumber, message));
+        }
+    }
+
+    private BulkCancelResponse cancelAll(List<ParkingReservation> cancelled) {
+        cancelled.forEach(this::delete);
+        var promoted = 0;
+        for (var reservation : cancelled) {
+            promoted += promoteWaitlist(reservation);
+        }
+        return new BulkCancelResponse(cancelled.size(), promoted);
+    }
+
+    private int promoteWaitlist(ParkingReservation cancelled) {
+        var promotedCount = 0;
+        var freedSpaceId = cancelled.getSpaceId();
+        if (!bookingRules.acceptsPromotions(freedSpaceId)) {
+            return 0;
+        }
+        var now = Instant.now();
+        var candidates = waitlist.values().stream()
+                .filter(entry -> entry.getStatus() == WaitlistStatus.WAITING)
+                .filter(entry -> entry.getStartTime().isBefore(cancelled.getEndTime())
+                        && entry.getEndTime().isAfter(cancelled.getStartTime()))
+                .sorted(Comparator.comparing(WaitlistEntry::getCreatedAt))
+                .toList();
+
+        for (var entry : candidates) {
+            if (entry.isExpiredAt(now)) {
+                entry.expire();
+                saveWaitlistEntry(entry);
+                continue;
+            }
+
+            var startTime = entry.getStartTime();
+            var endTime = entry.getEndTime();
+            if (!bookingRules.isPromotable(entry, freedSpaceId)
+                    || !bookingRules.hasCapacity(occupancy.count(startTime, endTime))
+                    || occupancy.occupied(startTime, endTime).get(freedSpaceId)) {
+                continue;
+            }
+
+            var promoted = new ParkingReservation(freedSpaceId, startTime, endTime, entry.getLicensePlate(),
+                    entry.toSpaceFilter());
+            insert(promoted);
+            entry.promote(promoted.getId());
+            saveWaitlistEntry(entry);
+            promotedCount++;
+        }
+        return promotedCount;
+    }
+
+    private boolean existsWaitingOverlapping(String licensePlate, Instant startTime, Instant endTime) {
+        var plate = normalize(licensePlate);
+        return waitlist.values().stream()
+                .anyMatch(entry -> entry.getStatus() == WaitlistStatus.WAITING
+                        && plate.equals(normalize(entry.getLicensePlate()))
+                        && entry.getStartTime().isBefore(endTime)
+                        && entry.getEndTime().isAfter(startTime));
+    }
+
+    private WaitlistResponse toWaitlistResponse(WaitlistEntry entry) {
+        var response = reservationMapper.toWaitlistResponse(entry);
+        if (entry.isExpiredAt(Instant.now())) {
+            response.setStatus(WaitlistStatus.EXPIRED);
+        } else if (entry.getStatus() == WaitlistStatus.WAITING) {
+            response.setPosition(waitlist.values().stream()
+                    .filter(other -> other.getStatus() == WaitlistStatus.WAITING
+                            && other.getStartTime().equals(entry.getStartTime())
+                            && !other.getCreatedAt().isAfter(entry.getCreatedAt()))
+                    .count());
+        }
+        return response;
+    }
+
+    private ParkingReservation find(String reservationId) {
+        var pending = pendingInserts.get(reservationId);
+        if (pending != null || pendingDeletes.contains(reservationId)) {
+            return pending;
+        }
+        return reservations.get(reservationId);
+    }
+
+    private Stream<ParkingReservation> currentReservations() {
+        return Stream.concat(
+                reservations.values().stream().filter(reservation -> !pendingDeletes.contains(reservation.getId())),
+                pendingInserts.values().stream());
+    }
+
+    private void insert(ParkingReservation reservation) {
+        occupancy.add(reservation.getStartTime(), reservation.getSpaceId());
+        plateIndex.add(reservation);
+        pendingInserts.put(reservation.getId(), reservation);
+        pendingChanges.add(new ReservationOutbox.Change(ChangeType.CREATED, reservation));
+        pendingVersionBumps.add(reservation.getStartTime());
+    }
+
+    private void delete(ParkingReservation reservation) {
+        occupancy.remove(reservation.getStartTime(), reservation.getSpaceId());
+        plateIndex.remove(reservation);
+        if (pendingInserts.remove(reservation.getId()) == null) {
+            pendingDeletes.add(reservation.getId());
+        }
+        pendingChanges.add(new ReservationOutbox.Change(ChangeType.CANCELLED, reservation));
+        pendingVersionBumps.add(reservation.getStartTime());
+    }
+
+    private void move(ParkingReservation previous, ParkingReservation moved) {
+        occupancy.add(moved.getStartTime(), moved.getSpaceId());
+        plateIndex.add(moved);
+        if (pendingInserts.put(moved.getId(), moved) == null) {
+            pendingDeletes.add(moved.getId());
+        }
+        pendingChanges.add(new ReservationOutbox.Change(ChangeType.RESCHEDULED, moved));
+        pendingVersionBumps.add(previous.getStartTime());
+        pendingVersionBumps.add(moved.getStartTime());
+    }
+
+    private void saveWaitlistEntry(WaitlistEntry entry) {
+        waitlist.put(entry.getId(), entry);
+        pendingWaitlistSaves.put(entry.getId(), entry);
+    }
+
+    /**
+     * Writes the batch to the journal and only then publishes it to readers and bumps slot versions, so nobody
+     * sees or is woken for a change that is not durable. A failed write leaves the published state untouched.
+     */
+    private void flush() {
+        if (pendingChanges.isEmpty()
+                && pendingWaitlistSaves.isEmpty() && pendingWaitlistDeletes.isEmpty()) {
+            return;
+        }
+        try {
+            journal.write(pendingInserts.values(), pendingDeletes,
+                    pendingWaitlistSaves.values(), pendingWaitlistDeletes, pendingChanges);
+            pendingDeletes.forEach(reservations::remove);
+            pendingInserts.values().forEach(reservation -> reservations.put(reservation.getId(), reservation));
+            pendingVersionBumps.forEach(versions::bump);
+        } finally {
+            clearPending();
+        }
+    }
+
+    /**
+     * Rebuilds the in-memory state from the journal. The new maps are filled off to the side and swapped in
+     * at the end, so readers outside the engine thread see either the old or the new state, never a half-loaded one.
+     */
+    private void load() {
+        clearPending();
+        var loaded = journal.loadReservations();
+        var loadedReservations = new ConcurrentHashMap<String, ParkingReservation>(loaded.size() * 2);
+        var loadedOccupancy = new OccupancySnapshot();
+        loaded.forEach(reservation -> {
+            loadedReservations.put(reservation.getId(), reservation);
+            loadedOccupancy.add(reservation.getStartTime(), reservation.getSpaceId());
+        });
+        var loadedWaitlist = new ConcurrentHashMap<String, WaitlistEntry>();
+        journal.loadWaitlist().forEach(entry -> loadedWaitlist.put(entry.getId(), entry));
+
+        var previous = reservations;
+        reservations = loadedReservations;
+        occupancy = loadedOccupancy;
+        waitlist = loadedWaitlist;
+        var now = Instant.now();
+        plateIndex.rebuild(loaded.stream().filter(reservation -> reservation.getEndTime().isAfter(now)).toList());
+        previous.values().forEach(reservation -> versions.bump(reservation.getStartTime()));
+        loaded.forEach(reservation -> versions.bump(reservation.getStartTime()));
+    }
+
+    private void clearPending() {
+        pendingInserts.clear();
+        pendingDeletes.clear();
+        pendingChanges.clear();
+        pendingWaitlistSaves.clear();
+        pendingWaitlistDeletes.clear();
+        pendingVersionBumps.clear();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.model.ReservationChangeResponse;
+import com.example.parking.service.contract.ChangeSink;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class SubscriberChangeSink implements ChangeSink {
+
+    private final List<Consumer<List<ReservationChangeResponse>>> subscribers = new CopyOnWriteArrayList<>();
+
+    public Runnable subscribe(Consumer<List<ReservationChangeResponse>> subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    @Override
+    public void publish(List<ReservationChangeResponse> changes) {
+        for (var subscriber : subscribers) {
+            subscriber.accept(changes);
+        }
+    }
+}
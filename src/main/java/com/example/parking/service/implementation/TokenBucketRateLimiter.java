@@ -0,0 +1,90 @@
+package com.example.parking.service.implementation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets keyed by string. Each bucket is a single timestamp, the time at which it will be full
+ * again (the generic cell rate algorithm), advanced with compare-and-set, so callers never block.
+ * A bucket whose timestamp has passed is full and indistinguishable from a fresh one, which is what
+ * makes idle buckets safe to evict. Eviction can race with a concurrent acquire on the same key and
+ * forget that one permit; the limit is approximate by at most that much.
+ */
+class TokenBucketRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long nanosPerPermit;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong lastSweep;
+
+    TokenBucketRateLimiter(int permitsPerMinute, int burst, int maxKeys) {
+        this(permitsPerMinute, burst, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int permitsPerMinute, int burst, int maxKeys, LongSupplier clock) {
+        if (permitsPerMinute < 1 || burst < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("Rate limit, burst and key count must be positive");
+        }
+        this.nanosPerPermit = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+        this.burstNanos = (burst - 1) * nanosPerPermit;
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+        this.lastSweep = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Takes one permit for {@code key}. Returns 0 when it was granted, otherwise the nanoseconds until one is.
+     * When the table is full of buckets that are still refilling, a new key is rejected for one permit interval;
+     * letting it through untracked would let anyone who can mint keys bypass the limit.
+     */
+    long tryAcquire(String key) {
+        var now = clock.getAsLong();
+        var last = lastSweep.get();
+        if (now - last > SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+            evictIdle(now);
+        }
+
+        var bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys && !evictIdle(now)) {
+                return nanosPerPermit;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            var fullAt = bucket.get();
+            var from = fullAt - now > 0 ? fullAt : now;
+            var wait = from - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, from + nanosPerPermit)) {
+                return 0;
+            }
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private boolean evictIdle(long now) {
+        if (sweeping.compareAndSet(false, true)) {
+            try {
+                buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+            } finally {
+                sweeping.set(false);
+            }
+        }
+        return buckets.size() < maxKeys;
+    }
+}
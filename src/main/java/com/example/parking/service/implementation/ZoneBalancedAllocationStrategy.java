@@ -0,0 +1,40 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.BitSet;
+
+@RequiredArgsConstructor
+public class ZoneBalancedAllocationStrategy implements SpaceAllocationStrategy {
+
+    private final int zoneSize;
+
+    @Override
+    public int allocate(BitSet occupiedSpaces, int totalSpaces, String licensePlate, Instant startTime, Instant endTime) {
+        var bestSpaceId = NO_SPACE;
+        var bestZoneFree = 0;
+        var zoneFree = 0;
+        var zoneFirstFree = NO_SPACE;
+        var zoneIndex = -1;
+
+        for (var spaceId = occupiedSpaces.nextClearBit(1);
+             spaceId <= totalSpaces;
+             spaceId = occupiedSpaces.nextClearBit(spaceId + 1)) {
+            var spaceZone = (spaceId - 1) / zoneSize;
+            if (spaceZone != zoneIndex) {
+                if (zoneFree > bestZoneFree) {
+                    bestZoneFree = zoneFree;
+                    bestSpaceId = zoneFirstFree;
+                }
+                zoneIndex = spaceZone;
+                zoneFree = 0;
+                zoneFirstFree = spaceId;
+            }
+            zoneFree++;
+        }
+
+        return zoneFree > bestZoneFree ? zoneFirstFree : bestSpaceId;
+    }
+}
@@ -8,19 +8,57 @@ public class Constants {
     public static final String MSG_RESERVATION_NOT_FOUND = "Reservation not found with ID: ";
     public static final String MSG_RESERVATION_FUTURE = "Reservation time must be in the future";
     public static final String MSG_NO_SPACE_AVAILABLE = "No parking spaces available for this time slot";
+    public static final String MSG_NO_MATCHING_SPACE = "No parking spaces matching the requested attributes are available for this time slot";
     public static final String MSG_MAX_CAPACITY = "Parking has reached maximum capacity for this time slot";
 
+    public static final String MSG_NO_RECORDING = "No flight recording is running";
+
     public static final String ERROR_STATUS = "error";
     public static final String SUCCESS_STATUS = "success";
     public static final String UNEXPECTED_ERROR_OCCURRED = "An unexpected error occurred";
     public static final String VALIDATION_ERROR = "Validation error";
     public static final String MSG_RESERVATION_CONFLICT = "You already have an overlapping reservation in this time range for license plate: %s";
     public static final String MSG_RESERVATION_SAME_HOUR = "You already have a reservation at this exact time for license plate: %s";
+    public static final String MSG_WAITLIST_ENTRY_NOT_FOUND = "Waitlist entry not found with ID: ";
+    public static final String MSG_IMPORT_MALFORMED_LINE = "Malformed reservation line";
+    public static final String MSG_IMPORT_MISSING_FIELDS = "Start time and license plate are required";
+    public static final String MSG_IMPORT_DURATION = "Reservation must last exactly one hour";
+    public static final String MSG_IMPORT_DUPLICATE_ID = "Duplicate reservation ID: ";
+    public static final String MSG_IMPORT_SPACE_TAKEN = "Parking space is not available for this time slot: ";
+    public static final String MSG_INVALID_TOTAL_SPACES = "Total spaces must be positive: ";
+    public static final String MSG_INVALID_MAX_OCCUPANCY = "Max occupancy must be greater than 0 and at most 1: ";
+    public static final String MSG_INVALID_SPACE_RANGE = "Invalid parking space range: ";
+    public static final String MSG_INVALID_SLOT_RANGE = "Slot range start must be before its end";
+    public static final String MSG_RATE_LIMITED_CLIENT = "Too many reservation attempts from this client";
+    public static final String MSG_RATE_LIMITED_PLATE = "Too many reservation attempts for license plate: %s";
+    public static final String MSG_ENGINE_STOPPED = "Booking engine is not running";
+    public static final String MSG_WAITLIST_CONFLICT = "You are already on the waitlist in this time range for license plate: %s";
 
-    public static final int TOTAL_PARKING_SPACES = 100;
-
-    public static final double MAX_CAPACITY_PERCENTAGE = 0.8;
 
     public static final int ONE_HOUR_IN_SECONDS = 3600;
 
+    public static final int ONE_DAY_IN_SECONDS = 86400;
+
+    public static final int MAX_RECURRING_OCCURRENCES = 31;
+
+    public static final int IMPORT_BATCH_SIZE = 1000;
+
+    public static final int MAX_IMPORT_ERRORS = 100;
+
+    public static final int BULK_BUFFER_SIZE = 64 * 1024;
+
+    public static final int ASYNC_BATCH_SIZE = 64;
+
+    public static final int ENGINE_RING_BUFFER_SIZE = 1 << 16;
+
+    public static final int ENGINE_BATCH_SIZE = 1024;
+
+    public static final int OUTBOX_BATCH_SIZE = 500;
+
+    public static final int MAX_CHANGE_FEED_LIMIT = 1000;
+
+    public static final int MAX_LONG_POLL_SECONDS = 60;
+
+    public static final String CBOR_ETAG_SUFFIX = "-cbor";
+
 }
@@ -0,0 +1,23 @@
+package com.example.parking.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Locale;
+
+@UtilityClass
+public class LicensePlateUtil {
+
+    public static String normalize(String licensePlate) {
+        if (licensePlate == null) {
+            return null;
+        }
+        var normalized = new StringBuilder(licensePlate.length());
+        for (var i = 0; i < licensePlate.length(); i++) {
+            var c = licensePlate.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toUpperCase(Locale.ROOT);
+    }
+}
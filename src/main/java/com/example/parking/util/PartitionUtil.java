@@ -0,0 +1,37 @@
+package com.example.parking.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static com.example.parking.util.Constants.ONE_DAY_IN_SECONDS;
+import static com.example.parking.util.Constants.ONE_HOUR_IN_SECONDS;
+
+/**
+ * Reservations are partitioned by the UTC day their start time falls on. A partition is not a separate table:
+ * it is the {@code partition_day} column of {@code parking_reservations} plus the {@code (partition_day,
+ * start_time)} index, which queries filter on to range-scan only the days they need. Every reservation lasts
+ * one hour, so anything overlapping {@code [startTime, endTime)} starts in the partitions covering
+ * {@code (startTime - 1h, endTime)}: at most two for a single slot.
+ */
+@UtilityClass
+public class PartitionUtil {
+
+    public static long partitionOf(Instant startTime) {
+        return Math.floorDiv(startTime.getEpochSecond(), ONE_DAY_IN_SECONDS);
+    }
+
+    public static long firstPartitionOverlapping(Instant startTime) {
+        return partitionOf(startTime.minusSeconds(ONE_HOUR_IN_SECONDS));
+    }
+
+    public static long lastPartitionOverlapping(Instant endTime) {
+        return partitionOf(endTime);
+    }
+
+    public static Instant partitionStart(long partition) {
+        return LocalDate.ofEpochDay(partition).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
@@ -0,0 +1,53 @@
+-- Schema for profiles that do not let Hibernate manage DDL (fast-startup); keep in sync with the entities
+create table if not exists parking_reservations (
+    id varchar(255) not null,
+    space_id integer not null,
+    start_time timestamp(6) with time zone,
+    end_time timestamp(6) with time zone,
+    license_plate varchar(255),
+    partition_day bigint not null,
+    ev_charging boolean not null,
+    accessible boolean not null,
+    size varchar(255),
+    primary key (id)
+);
+
+create index if not exists idx_parking_reservations_partition_day_start_time
+    on parking_reservations (partition_day, start_time);
+
+create table if not exists parking_waitlist (
+    id varchar(255) not null,
+    start_time timestamp(6) with time zone,
+    end_time timestamp(6) with time zone,
+    license_plate varchar(255),
+    created_at timestamp(6) with time zone,
+    status varchar(255),
+    reservation_id varchar(255),
+    ev_charging boolean not null,
+    accessible boolean not null,
+    size varchar(255),
+    primary key (id)
+);
+
+create index if not exists idx_parking_waitlist_status_start_time on parking_waitlist (status, start_time);
+
+create table if not exists reservation_changes (
+    id bigint generated by default as identity,
+    position bigint,
+    type varchar(255),
+    reservation_id varchar(255),
+    space_id integer not null,
+    start_time timestamp(6) with time zone,
+    end_time timestamp(6) with time zone,
+    license_plate varchar(255),
+    occurred_at timestamp(6) with time zone,
+    primary key (id)
+);
+
+create unique index if not exists uk_reservation_changes_position on reservation_changes (position);
+
+create table if not exists outbox_cursors (
+    name varchar(255) not null,
+    position bigint not null,
+    primary key (name)
+);
@@ -0,0 +1,36 @@
+package com.example.parking.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+class LongPollSmokeTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void run_ReleasesEveryParkedClientOnBooking() throws Exception {
+        var config = new LongPollConfig(50, Duration.ofSeconds(20), 500, Duration.ofSeconds(1));
+
+        var result = new LongPollTest(URI.create("http://localhost:" + port), config,
+                new ServerProbe(ProcessHandle.current().pid())).run("reactive");
+
+        assertEquals(50, result.inFlightAtPeak());
+        assertEquals(50, result.updated());
+        assertEquals(0, result.failed());
+        assertTrue(result.peak().openSockets() < 0 || result.peak().openSockets() >= 50);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.exception.ParkingFullException;
+import com.example.parking.exception.ReservationConflictException;
+import com.example.parking.model.ReservationResponse;
+import com.example.parking.repository.ParkingReservationRepository;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.service.contract.ReactiveParkingService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.parking.util.ParkingServiceTestHelper.createReservationRequest;
+import static com.example.parking.util.TestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class ReactiveParkingServiceImplTest {
+
+    private final ReactiveParkingService parkingService;
+
+    private final ParkingReservationRepository repository;
+
+    private final ReservationPlateIndex plateIndex;
+
+    @BeforeEach
+    void cleanUp() {
+        repository.deleteAll();
+        plateIndex.clear();
+    }
+
+    @Test
+    void concurrentReservations_AreSerializedPerSlot() {
+        var start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+        var created = Flux.range(0, 85)
+                .flatMap(i -> parkingService.createReservation(createReservationRequest(start, "REACTIVE" + i))
+                        .onErrorResume(ParkingFullException.class, ex -> Mono.empty()), 85)
+                .collectList()
+                .block();
+
+        assertEquals(80, created.size(), SHOULD_NOT_EXCEED_80_SUCCESSFUL_RESERVATIONS);
+        assertEquals(80, new HashSet<>(created.stream().map(ReservationResponse::getSpaceId).toList()).size());
+        assertEquals(80, repository.count());
+
+        var overlapping = createReservationRequest(start.plusMinutes(30), TEST_PLATE_002);
+        assertThrows(ParkingFullException.class, () -> parkingService.createReservation(overlapping).block());
+
+        parkingService.cancelReservation(created.getFirst().getReservationId()).block();
+        assertEquals(79, repository.count());
+        assertNotNull(parkingService.createReservation(overlapping).block());
+        assertThrows(ReservationConflictException.class, () -> parkingService.createReservation(
+                createReservationRequest(start.plusMinutes(45), TEST_PLATE_002)).block());
+    }
+
+    @Test
+    void awaitSlotChange_CompletesOnBookingOrTimeout() throws Exception {
+        var start = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.HOURS);
+        var version = parkingService.getSlotVersion(start);
+
+        var changed = parkingService.awaitSlotChange(start, version, Duration.ofSeconds(30)).toFuture();
+        assertFalse(changed.isDone());
+
+        parkingService.createReservation(createReservationRequest(start.plusMinutes(30), TEST_PLATE_001)).block();
+        assertNotEquals(version, changed.get(5, TimeUnit.SECONDS));
+
+        var unchanged = parkingService.getSlotVersion(start.plusHours(5));
+        assertEquals(unchanged, parkingService.awaitSlotChange(start.plusHours(5), unchanged, Duration.ofMillis(100))
+                .block(Duration.ofSeconds(5)));
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.parking.controller;
+
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.SpaceSize;
+import com.example.parking.model.ApiResponse;
+import com.example.parking.model.ReservationListResponse;
+import com.example.parking.model.ReservationRequest;
+import com.example.parking.model.ReservationResponse;
+import com.example.parking.service.contract.ReactiveParkingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.parking.util.Constants.MAX_LONG_POLL_SECONDS;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/parking")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveParkingController {
+
+    private final ReactiveParkingService parkingService;
+
+    @PostMapping("/reservations")
+    public Mono<ResponseEntity<ApiResponse<ReservationResponse>>> createReservation(
+            @Valid @RequestBody ReservationRequest request
+    ) {
+        return parkingService.createReservation(request)
+                .map(response -> new ResponseEntity<>(ApiResponse.success(response), HttpStatus.CREATED));
+    }
+
+    @DeleteMapping("/reservations/{id}")
+    public Mono<ResponseEntity<ApiResponse<Void>>> cancelReservation(@PathVariable String id) {
+        return parkingService.cancelReservation(id)
+                .then(Mono.fromSupplier(() -> new ResponseEntity<>(ApiResponse.<Void>success(null), HttpStatus.OK)));
+    }
+
+    @GetMapping("/reservations/{id}")
+    public Mono<ResponseEntity<ApiResponse<ReservationResponse>>> getReservation(
+            @PathVariable String id,
+            ServerWebExchange exchange
+    ) {
+        var eTag = parkingService.getReservationsVersion();
+        if (exchange.checkNotModified(eTag)) {
+            return Mono.empty();
+        }
+        return parkingService.getReservation(id)
+                .map(response -> ResponseEntity.ok().eTag(eTag).body(ApiResponse.success(response)));
+    }
+
+    @GetMapping("/reservations")
+    public Mono<ResponseEntity<ApiResponse<ReservationListResponse>>> getAllReservations(ServerWebExchange exchange) {
+        var eTag = parkingService.getReservationsVersion();
+        if (exchange.checkNotModified(eTag)) {
+            return Mono.empty();
+        }
+        return parkingService.getAllReservations()
+                .collectList()
+                .map(reservations -> ResponseEntity.ok().eTag(eTag).body(ApiResponse.success(
+                        ReservationListResponse.from(reservations, parkingService.getTotalSpaces()))));
+    }
+
+    @GetMapping(value = "/reservations", params = "plate")
+    public Mono<ResponseEntity<ApiResponse<List<ReservationResponse>>>> getReservationsByLicensePlate(
+            @RequestParam String plate,
+            @RequestParam(defaultValue = "false") boolean includePast,
+            ServerWebExchange exchange
+    ) {
+        var eTag = parkingService.getReservationsVersion();
+        if (exchange.checkNotModified(eTag)) {
+            return Mono.empty();
+        }
+        var found = includePast
+                ? parkingService.getReservationHistoryByLicensePlate(plate)
+                : parkingService.getReservationsByLicensePlate(plate);
+        return found
+                .collectList()
+                .map(reservations -> ResponseEntity.ok().eTag(eTag).body(ApiResponse.success(reservations)));
+    }
+
+    @GetMapping(value = "/reservations", params = "slot")
+    public Mono<ResponseEntity<ApiResponse<ReservationListResponse>>> getReservationsBySlot(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime slot,
+            ServerWebExchange exchange
+    ) {
+        var eTag = parkingService.getSlotVersion(slot);
+        if (exchange.checkNotModified(eTag)) {
+            return Mono.empty();
+        }
+        return slotResponse(slot, eTag);
+    }
+
+    @GetMapping(value = "/reservations", params = {"slot", "wait"})
+    public Mono<ResponseEntity<ApiResponse<ReservationListResponse>>> awaitReservationsBySlot(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime slot,
+            @RequestParam int wait,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        var eTag = parkingService.getSlotVersion(slot);
+        if (!matches(ifNoneMatch, eTag)) {
+            return slotResponse(slot, eTag);
+        }
+        var timeout = Duration.ofSeconds(Math.clamp(wait, 0, MAX_LONG_POLL_SECONDS));
+        return parkingService.awaitSlotChange(slot, eTag, timeout)
+                .flatMap(version -> version.equals(eTag) ? Mono.just(notModified(eTag)) : slotResponse(slot, version));
+    }
+
+    @GetMapping("/spaces/free")
+    public Mono<ResponseEntity<ApiResponse<List<Integer>>>> getFreeSpaces(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime slot,
+            @RequestParam(defaultValue = "false") boolean evCharging,
+            @RequestParam(defaultValue = "false") boolean accessible,
+            @RequestParam(required = false) SpaceSize size
+    ) {
+        return parkingService.getFreeSpaces(slot, new SpaceFilter(evCharging, accessible, size))
+                .map(spaces -> new ResponseEntity<>(ApiResponse.success(spaces), HttpStatus.OK));
+    }
+
+    private Mono<ResponseEntity<ApiResponse<ReservationListResponse>>> slotResponse(LocalDateTime slot, String eTag) {
+        return parkingService.getReservationsBySlot(slot)
+                .collectList()
+                .map(reservations -> ResponseEntity.ok().eTag(eTag).body(ApiResponse.success(
+                        ReservationListResponse.from(reservations, parkingService.getTotalSpaces()))));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        return ifNoneMatch != null && ETag.parse(ifNoneMatch).stream()
+                .anyMatch(tag -> tag.isWildcard() || tag.tag().equals(eTag));
+    }
+}
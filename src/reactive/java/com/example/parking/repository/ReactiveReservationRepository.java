@@ -0,0 +1,168 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.ChangeType;
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.SpaceSize;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static com.example.parking.util.LicensePlateUtil.normalize;
+import static com.example.parking.util.PartitionUtil.firstPartitionOverlapping;
+import static com.example.parking.util.PartitionUtil.lastPartitionOverlapping;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveReservationRepository {
+
+    private static final String SELECT_COLUMNS = """
+            SELECT id, space_id, start_time, end_time, license_plate, ev_charging, accessible, size
+            FROM parking_reservations
+            """;
+
+    private static final String TIME_RANGE = """
+            WHERE partition_day BETWEEN :firstPartition AND :lastPartition
+            AND start_time < :endTime AND end_time > :startTime
+            """;
+
+    // the form LicensePlateUtil.normalize produces; not indexed, so it reads the whole history
+    private static final String NORMALIZED_PLATE = """
+            WHERE UPPER(REGEXP_REPLACE(license_plate, '[^\\p{L}\\p{Nd}]', '')) = CAST(:normalizedPlate AS VARCHAR)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO parking_reservations (id, space_id, start_time, end_time, license_plate, partition_day,
+                                              ev_charging, accessible, size)
+            VALUES (:id, :spaceId, :startTime, :endTime, :licensePlate, :partitionDay,
+                    :evCharging, :accessible, CAST(:size AS VARCHAR))
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM parking_reservations WHERE id = :id
+            """;
+
+    // r2dbc-h2 binds strings as CLOB, which H2 will not convert to the enum column without a cast
+    private static final String INSERT_CHANGE_SQL = """
+            INSERT INTO reservation_changes
+            (type, reservation_id, space_id, start_time, end_time, license_plate, occurred_at)
+            VALUES (CAST(:type AS VARCHAR), :reservationId, :spaceId, :startTime, :endTime, :licensePlate, :occurredAt)
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<ParkingReservation> findById(String id) {
+        return databaseClient.sql(SELECT_COLUMNS + "WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveReservationRepository::toReservation)
+                .one();
+    }
+
+    public Flux<ParkingReservation> findAll() {
+        return databaseClient.sql(SELECT_COLUMNS)
+                .map(ReactiveReservationRepository::toReservation)
+                .all();
+    }
+
+    public Flux<ParkingReservation> findAllByTimeRange(Instant startTime, Instant endTime) {
+        return bindTimeRange(databaseClient.sql(SELECT_COLUMNS + TIME_RANGE + "ORDER BY start_time"), startTime, endTime)
+                .map(ReactiveReservationRepository::toReservation)
+                .all();
+    }
+
+    public Flux<ParkingReservation> findAllByLicensePlate(String licensePlate) {
+        return databaseClient.sql(SELECT_COLUMNS + NORMALIZED_PLATE + "ORDER BY start_time")
+                .bind("normalizedPlate", normalize(licensePlate))
+                .map(ReactiveReservationRepository::toReservation)
+                .all();
+    }
+
+    public Flux<Integer> findSpaceIdsByTimeRange(Instant startTime, Instant endTime) {
+        return bindTimeRange(databaseClient.sql("SELECT space_id FROM parking_reservations " + TIME_RANGE),
+                startTime, endTime)
+                .map(row -> row.get(0, Integer.class))
+                .all();
+    }
+
+    public Mono<Long> countByTimeRange(Instant startTime, Instant endTime) {
+        return bindTimeRange(databaseClient.sql("SELECT COUNT(*) FROM parking_reservations " + TIME_RANGE),
+                startTime, endTime)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Mono<Void> insert(ParkingReservation reservation) {
+        var spec = databaseClient.sql(INSERT_SQL)
+                .bind("id", reservation.getId())
+                .bind("spaceId", reservation.getSpaceId())
+                .bind("startTime", toOffsetDateTime(reservation.getStartTime()))
+                .bind("endTime", toOffsetDateTime(reservation.getEndTime()))
+                .bind("licensePlate", reservation.getLicensePlate())
+                .bind("partitionDay", reservation.getPartitionDay())
+                .bind("evCharging", reservation.isEvCharging())
+                .bind("accessible", reservation.isAccessible());
+        spec = reservation.getSize() == null
+                ? spec.bindNull("size", String.class)
+                : spec.bind("size", reservation.getSize().name());
+        return spec.then();
+    }
+
+    public Mono<Long> deleteById(String id) {
+        return databaseClient.sql(DELETE_SQL)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Void> recordChange(ChangeType type, ParkingReservation reservation) {
+        return databaseClient.sql(INSERT_CHANGE_SQL)
+                .bind("type", type.name())
+                .bind("reservationId", reservation.getId())
+                .bind("spaceId", reservation.getSpaceId())
+                .bind("startTime", toOffsetDateTime(reservation.getStartTime()))
+                .bind("endTime", toOffsetDateTime(reservation.getEndTime()))
+                .bind("licensePlate", reservation.getLicensePlate())
+                .bind("occurredAt", toOffsetDateTime(Instant.now()))
+                .then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindTimeRange(DatabaseClient.GenericExecuteSpec spec,
+                                                                   Instant startTime, Instant endTime) {
+        return spec
+                .bind("firstPartition", firstPartitionOverlapping(startTime))
+                .bind("lastPartition", lastPartitionOverlapping(endTime))
+                .bind("startTime", toOffsetDateTime(startTime))
+                .bind("endTime", toOffsetDateTime(endTime));
+    }
+
+    private static ParkingReservation toReservation(Readable row) {
+        return new ParkingReservation(
+                row.get("id", String.class),
+                row.get("space_id", Integer.class),
+                row.get("start_time", OffsetDateTime.class).toInstant(),
+                row.get("end_time", OffsetDateTime.class).toInstant(),
+                row.get("license_plate", String.class),
+                toSpaceFilter(row)
+        );
+    }
+
+    private static SpaceFilter toSpaceFilter(Readable row) {
+        var size = row.get("size", String.class);
+        return new SpaceFilter(Boolean.TRUE.equals(row.get("ev_charging", Boolean.class)),
+                Boolean.TRUE.equals(row.get("accessible", Boolean.class)),
+                size == null ? null : SpaceSize.valueOf(size));
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.parking.service.contract;
+
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.model.ReservationRequest;
+import com.example.parking.model.ReservationResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReactiveParkingService {
+
+    Mono<ReservationResponse> createReservation(ReservationRequest request);
+
+    Mono<Void> cancelReservation(String reservationId);
+
+    Mono<ReservationResponse> getReservation(String reservationId);
+
+    Flux<ReservationResponse> getAllReservations();
+
+    Flux<ReservationResponse> getReservationsByLicensePlate(String licensePlate);
+
+    Flux<ReservationResponse> getReservationHistoryByLicensePlate(String licensePlate);
+
+    Flux<ReservationResponse> getReservationsBySlot(LocalDateTime slotStart);
+
+    Mono<List<Integer>> getFreeSpaces(LocalDateTime slotStart, SpaceFilter filter);
+
+    String getReservationsVersion();
+
+    String getSlotVersion(LocalDateTime slotStart);
+
+    Mono<String> awaitSlotChange(LocalDateTime slotStart, String knownVersion, Duration timeout);
+
+    int getTotalSpaces();
+}
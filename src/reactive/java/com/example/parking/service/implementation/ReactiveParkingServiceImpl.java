@@ -0,0 +1,161 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.domain.ParkingLot;
+import com.example.parking.entity.ChangeType;
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.exception.ReservationNotFoundException;
+import com.example.parking.mapper.ReservationMapper;
+import com.example.parking.model.ReservationRequest;
+import com.example.parking.model.ReservationResponse;
+import com.example.parking.repository.ReactiveReservationRepository;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.repository.ReservationVersions;
+import com.example.parking.service.contract.ReactiveParkingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+
+import static com.example.parking.util.Constants.*;
+import static com.example.parking.util.TimeUtil.getInstant;
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveParkingServiceImpl implements ReactiveParkingService {
+
+    private final ReactiveReservationRepository reservationRepository;
+    private final ReservationMapper reservationMapper;
+    private final ParkingLot parkingLot;
+    private final ReservationPlateIndex plateIndex;
+    private final ReservationVersions versions;
+    private final BookingRules bookingRules;
+    private final TransactionalOperator reactiveTransactionalOperator;
+    private final SlotLocks slotLocks = new SlotLocks();
+
+    @Override
+    public Mono<ReservationResponse> createReservation(ReservationRequest request) {
+        if (request.getStartTime().isBefore(LocalDateTime.now())) {
+            return Mono.error(new IllegalArgumentException(MSG_RESERVATION_FUTURE));
+        }
+
+        var startTime = getInstant(request.getStartTime());
+        var endTime = getTimeOneHourLater(startTime);
+        return slotLocks.withLock(startTime, endTime, () -> reserve(request, startTime, endTime))
+                .map(reservationMapper::toResponse);
+    }
+
+    @Override
+    public Mono<Void> cancelReservation(String reservationId) {
+        return findReservation(reservationId)
+                .flatMap(reservation -> slotLocks.withLock(reservation.getStartTime(), reservation.getEndTime(),
+                        () -> reservationRepository.deleteById(reservationId)
+                                .flatMap(deleted -> deleted == 0
+                                        ? Mono.error(notFound(reservationId))
+                                        : reservationRepository.recordChange(ChangeType.CANCELLED, reservation))
+                                .as(reactiveTransactionalOperator::transactional)
+                                .doOnSuccess(ignored -> {
+                                    plateIndex.remove(reservation);
+                                    versions.bump(reservation.getStartTime());
+                                })));
+    }
+
+    @Override
+    public Mono<ReservationResponse> getReservation(String reservationId) {
+        return findReservation(reservationId).map(reservationMapper::toResponse);
+    }
+
+    @Override
+    public Flux<ReservationResponse> getAllReservations() {
+        return reservationRepository.findAll().map(reservationMapper::toResponse);
+    }
+
+    @Override
+    public Flux<ReservationResponse> getReservationsByLicensePlate(String licensePlate) {
+        return Flux.fromIterable(plateIndex.findByLicensePlate(licensePlate)).map(reservationMapper::toResponse);
+    }
+
+    @Override
+    public Flux<ReservationResponse> getReservationHistoryByLicensePlate(String licensePlate) {
+        return reservationRepository.findAllByLicensePlate(licensePlate).map(reservationMapper::toResponse);
+    }
+
+    @Override
+    public Flux<ReservationResponse> getReservationsBySlot(LocalDateTime slotStart) {
+        var startTime = getInstant(slotStart);
+        return reservationRepository.findAllByTimeRange(startTime, getTimeOneHourLater(startTime))
+                .map(reservationMapper::toResponse);
+    }
+
+    @Override
+    public Mono<List<Integer>> getFreeSpaces(LocalDateTime slotStart, SpaceFilter filter) {
+        var startTime = getInstant(slotStart);
+        return occupiedSpaces(startTime, getTimeOneHourLater(startTime))
+                .map(occupiedSpaces -> bookingRules.freeSpaces(occupiedSpaces, filter));
+    }
+
+    @Override
+    public String getReservationsVersion() {
+        return versions.current();
+    }
+
+    @Override
+    public String getSlotVersion(LocalDateTime slotStart) {
+        var startTime = getInstant(slotStart);
+        return versions.forSlot(startTime, getTimeOneHourLater(startTime));
+    }
+
+    @Override
+    public Mono<String> awaitSlotChange(LocalDateTime slotStart, String knownVersion, Duration timeout) {
+        return Mono.fromFuture(() -> versions.awaitSlotChange(getInstant(slotStart), knownVersion, timeout));
+    }
+
+    @Override
+    public int getTotalSpaces() {
+        return parkingLot.getTotalSpaces();
+    }
+
+    private Mono<ParkingReservation> reserve(ReservationRequest request, Instant startTime, Instant endTime) {
+        var licensePlate = request.getLicensePlate();
+        var filter = request.toSpaceFilter();
+        return Mono.fromRunnable(() -> bookingRules.checkPlateConflicts(licensePlate, startTime, endTime))
+                .then(reservationRepository.countByTimeRange(startTime, endTime))
+                .doOnNext(bookingRules::checkCapacity)
+                .then(occupiedSpaces(startTime, endTime))
+                .map(occupiedSpaces -> new ParkingReservation(
+                        bookingRules.allocateSpace(occupiedSpaces, licensePlate, startTime, endTime, filter),
+                        startTime, endTime, licensePlate, filter))
+                .flatMap(reservation -> reservationRepository.insert(reservation)
+                        .then(reservationRepository.recordChange(ChangeType.CREATED, reservation))
+                        .thenReturn(reservation))
+                .as(reactiveTransactionalOperator::transactional)
+                .doOnNext(saved -> {
+                    plateIndex.add(saved);
+                    versions.bump(saved.getStartTime());
+                });
+    }
+
+    private Mono<ParkingReservation> findReservation(String reservationId) {
+        return reservationRepository.findById(reservationId)
+                .switchIfEmpty(Mono.error(() -> notFound(reservationId)));
+    }
+
+    private static ReservationNotFoundException notFound(String reservationId) {
+        return new ReservationNotFoundException(MSG_RESERVATION_NOT_FOUND + reservationId);
+    }
+
+    private Mono<BitSet> occupiedSpaces(Instant startTime, Instant endTime) {
+        return reservationRepository.findSpaceIdsByTimeRange(startTime, endTime)
+                .collect(() -> new BitSet(parkingLot.getTotalSpaces() + 1), BitSet::set);
+    }
+}
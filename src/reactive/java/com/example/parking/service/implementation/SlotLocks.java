@@ -0,0 +1,50 @@
+package com.example.parking.service.implementation;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking FIFO locks over hour-aligned buckets. A one-hour booking touches at most two
+ * buckets, and any two overlapping bookings share at least one, so holding every bucket of a
+ * booking serializes it against all bookings it could conflict with. Buckets are acquired in
+ * ascending order; waiting is a future continuation, never a parked thread.
+ */
+class SlotLocks {
+
+    private final Map<Instant, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    <T> Mono<T> withLock(Instant startTime, Instant endTime, Supplier<Mono<T>> action) {
+        return Mono.defer(() -> {
+            var first = startTime.truncatedTo(ChronoUnit.HOURS);
+            var last = endTime.minusNanos(1).truncatedTo(ChronoUnit.HOURS);
+            var held = new CompletableFuture<Void>();
+            var acquired = acquire(first, held);
+            if (!last.equals(first)) {
+                acquired = acquired.then(Mono.defer(() -> acquire(last, held)));
+            }
+            return acquired
+                    .then(Mono.defer(action))
+                    .doFinally(signal -> held.complete(null));
+        });
+    }
+
+    int size() {
+        return tails.size();
+    }
+
+    private Mono<Void> acquire(Instant bucket, CompletableFuture<Void> held) {
+        var predecessor = new CompletableFuture<?>[1];
+        var tail = tails.compute(bucket, (key, previous) -> {
+            predecessor[0] = previous;
+            return previous == null ? held : CompletableFuture.allOf(previous, held);
+        });
+        tail.whenComplete((ignored, ex) -> tails.remove(bucket, tail));
+        return predecessor[0] == null ? Mono.empty() : Mono.fromFuture(predecessor[0], true).then();
+    }
+}
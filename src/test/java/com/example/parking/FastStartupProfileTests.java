@@ -0,0 +1,40 @@
+package com.example.parking;
+
+import com.example.parking.service.contract.ParkingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static com.example.parking.util.ParkingServiceTestHelper.createReservationRequest;
+import static com.example.parking.util.TestConstants.TEST_PLATE_001;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The fast-startup profile creates the schema from db/schema.sql rather than letting Hibernate derive it, so this
+ * boots the profile with Hibernate validating that script against the entities; a column or table that drifts from
+ * the mappings fails the context instead of the first query that touches it.
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@ActiveProfiles("fast-startup")
+class FastStartupProfileTests {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ParkingService parkingService;
+
+    @Test
+    void schemaScriptMatchesTheEntitiesAndAcceptsABooking() {
+        assertTrue(entityManagerFactory.isOpen());
+
+        var response = parkingService.createReservation(
+                createReservationRequest(LocalDateTime.now().plusDays(2), TEST_PLATE_001));
+
+        assertNotNull(parkingService.getReservation(response.getReservationId()));
+    }
+}
@@ -1,13 +1,27 @@
 package com.example.parking;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
 @SpringBootTest
 class ParkingApplicationTests {
 
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void secondLevelCacheIsOffWithoutPerfProfile() {
+		var options = entityManagerFactory.unwrap(SessionFactory.class).getSessionFactoryOptions();
+		assertFalse(options.isSecondLevelCacheEnabled());
+	}
+
 }
@@ -0,0 +1,69 @@
+package com.example.parking;
+
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.service.contract.ParkingService;
+import com.example.parking.service.implementation.OutboxRelay;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.cache.Caching;
+import java.time.LocalDateTime;
+
+import static com.example.parking.util.ParkingServiceTestHelper.createReservationRequest;
+import static com.example.parking.util.TestConstants.TEST_PLATE_001;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The perf profile hands out connections with auto-commit off, and Hikari rolls back whatever a connection has not
+ * committed when it returns to the pool; the single-writer engine is used because its journal and the outbox relay
+ * write through JdbcTemplate and repository queries rather than the JPA booking transactions.
+ */
+@SpringBootTest(properties = "parking.engine=single-writer")
+@ActiveProfiles("perf")
+class PerfProfileTests {
+
+    private static final String CAFFEINE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ParkingService parkingService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void secondLevelCacheKeepsReservationsByReference() {
+        var options = entityManagerFactory.unwrap(SessionFactory.class).getSessionFactoryOptions();
+        assertTrue(options.isSecondLevelCacheEnabled());
+
+        var cache = Caching.getCachingProvider(CAFFEINE_PROVIDER).getCacheManager()
+                .getCache(ParkingReservation.class.getName());
+        assertNotNull(cache);
+        assertFalse(cache.getConfiguration(CaffeineConfiguration.class).isStoreByValue());
+    }
+
+    @Test
+    void journalAndRelayCursorWritesAreCommittedWithAutoCommitOff() {
+        var reservation = parkingService.createReservation(
+                createReservationRequest(LocalDateTime.now().plusHours(2), TEST_PLATE_001));
+        outboxRelay.relay();
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM parking_reservations WHERE id = ?",
+                Integer.class, reservation.getReservationId()));
+        var lastPosition = jdbcTemplate.queryForObject("SELECT MAX(position) FROM reservation_changes", Long.class);
+        assertNotNull(lastPosition);
+        assertEquals(lastPosition, jdbcTemplate.queryForObject(
+                "SELECT position FROM outbox_cursors WHERE name = 'relay'", Long.class));
+    }
+}
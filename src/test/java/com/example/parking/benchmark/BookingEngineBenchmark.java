@@ -0,0 +1,152 @@
+package com.example.parking.benchmark;
+
+import com.example.parking.ParkingApplication;
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.entity.WaitlistEntry;
+import com.example.parking.mapper.ReservationBulkCodec;
+import com.example.parking.mapper.ReservationMapperImpl;
+import com.example.parking.model.ReservationRequest;
+import com.example.parking.model.ReservationResponse;
+import com.example.parking.repository.ReservationJournal;
+import com.example.parking.repository.ReservationOutbox;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.repository.ReservationVersions;
+import com.example.parking.service.implementation.BookingRules;
+import com.example.parking.service.implementation.FirstFitAllocationStrategy;
+import com.example.parking.service.implementation.SingleWriterParkingService;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.parking.util.ParkingServiceTestHelper.createParkingLot;
+
+/**
+ * Booking latency and throughput of the single-writer engine. {@code journal=memory} measures the engine alone;
+ * {@code journal=jdbc} runs it inside the application context, so every flushed batch goes through
+ * {@link com.example.parking.repository.JdbcReservationJournal} into H2.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BookingEngineBenchmark {
+
+    private static final int RESERVATIONS_PER_SLOT = 80;
+    private static final int DISTINCT_PLATES = 8000;
+    private static final int ASYNC_BATCH = 1000;
+
+    @Param({"memory", "jdbc"})
+    private String journal;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private LocalDateTime firstSlot;
+    private ConfigurableApplicationContext context;
+    private SingleWriterParkingService parkingService;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        if ("jdbc".equals(journal)) {
+            context = new SpringApplicationBuilder(ParkingApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties("logging.level.root=WARN", "parking.engine=single-writer")
+                    .run();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        sequence.set(0);
+        firstSlot = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        if (context != null) {
+            var jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.update("DELETE FROM reservation_changes");
+            jdbcTemplate.update("DELETE FROM parking_waitlist");
+            jdbcTemplate.update("DELETE FROM parking_reservations");
+            parkingService = context.getBean(SingleWriterParkingService.class);
+            parkingService.reload();
+            return;
+        }
+
+        var parkingLot = createParkingLot();
+        var plateIndex = new ReservationPlateIndex();
+        parkingService = new SingleWriterParkingService(new ReservationMapperImpl(),
+                new ReservationBulkCodec(JsonMapper.builder().findAndAddModules().build()),
+                parkingLot, plateIndex, new BookingRules(parkingLot, plateIndex, new FirstFitAllocationStrategy()),
+                new NoOpJournal(), new ReservationVersions());
+        parkingService.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (context == null) {
+            parkingService.stop();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ReservationResponse book() {
+        return parkingService.createReservation(nextRequest());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(ASYNC_BATCH)
+    @Threads(4)
+    public int bookAsync() {
+        var futures = new ArrayList<CompletableFuture<ReservationResponse>>(ASYNC_BATCH);
+        for (var i = 0; i < ASYNC_BATCH; i++) {
+            futures.add(parkingService.createReservationAsync(nextRequest()));
+        }
+        var spaceIds = 0;
+        for (var future : futures) {
+            spaceIds += future.join().getSpaceId();
+        }
+        return spaceIds;
+    }
+
+    private ReservationRequest nextRequest() {
+        var n = sequence.getAndIncrement();
+        return new ReservationRequest(firstSlot.plusHours(n / RESERVATIONS_PER_SLOT), "PLATE" + (n % DISTINCT_PLATES));
+    }
+
+    private static class NoOpJournal implements ReservationJournal {
+
+        @Override
+        public List<ParkingReservation> loadReservations() {
+            return List.of();
+        }
+
+        @Override
+        public List<WaitlistEntry> loadWaitlist() {
+            return List.of();
+        }
+
+        @Override
+        public void write(Collection<ParkingReservation> insertedReservations, Collection<String> deletedReservationIds,
+                          Collection<WaitlistEntry> savedWaitlistEntries, Collection<String> deletedWaitlistEntryIds,
+                          Collection<ReservationOutbox.Change> changes) {
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.parking.benchmark;
+
+import com.example.parking.domain.ParkingLot;
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.SpaceSize;
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+import com.example.parking.service.implementation.FirstFitAllocationStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.parking.util.TestConstants.LICENSE_PLATE;
+import static com.example.parking.util.TestConstants.MAX_OCCUPANCY;
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilteredAllocationBenchmark {
+
+    @Param({"100", "50000"})
+    private int totalSpaces;
+
+    @Param({"none", "ev", "ev-large"})
+    private String filterName;
+
+    private final SpaceAllocationStrategy strategy = new FirstFitAllocationStrategy();
+    private ParkingLot parkingLot;
+    private SpaceFilter filter;
+    private BitSet occupiedSpaces;
+    private BitSet scratch;
+    private Instant startTime;
+    private Instant endTime;
+
+    @Setup
+    public void setUp() {
+        startTime = Instant.now().plusSeconds(86_400);
+        endTime = getTimeOneHourLater(startTime);
+
+        var random = new SplittableRandom(42);
+        parkingLot = new ParkingLot(totalSpaces, MAX_OCCUPANCY);
+        occupiedSpaces = new BitSet(totalSpaces + 1);
+        for (var spaceId = 1; spaceId <= totalSpaces; spaceId++) {
+            if (random.nextDouble() < 0.1) {
+                parkingLot.setAttribute(spaceId, spaceId, ParkingLot.EV, true);
+            }
+            if (random.nextDouble() < 0.2) {
+                parkingLot.setSize(spaceId, spaceId, SpaceSize.LARGE);
+            }
+            if (random.nextDouble() < MAX_OCCUPANCY) {
+                occupiedSpaces.set(spaceId);
+            }
+        }
+        scratch = new BitSet(totalSpaces + 1);
+
+        filter = switch (filterName) {
+            case "ev" -> new SpaceFilter(true, false, null);
+            case "ev-large" -> new SpaceFilter(true, false, SpaceSize.LARGE);
+            default -> SpaceFilter.ANY;
+        };
+    }
+
+    @Benchmark
+    public int allocate() {
+        scratch.clear();
+        scratch.or(occupiedSpaces);
+        parkingLot.excludeUnavailable(scratch, filter);
+        return strategy.allocate(scratch, totalSpaces, LICENSE_PLATE, startTime, endTime);
+    }
+}
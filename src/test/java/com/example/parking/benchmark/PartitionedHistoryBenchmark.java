@@ -0,0 +1,130 @@
+package com.example.parking.benchmark;
+
+import com.example.parking.ParkingApplication;
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.model.ReservationRequest;
+import com.example.parking.model.ReservationResponse;
+import com.example.parking.repository.ParkingReservationRepository;
+import com.example.parking.repository.ReservationBatchRepository;
+import com.example.parking.service.contract.ParkingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+
+/**
+ * Booking latency against a growing reservation history. The history sits in past day partitions of a
+ * file-backed H2 database, so tens of millions of rows fit. {@code countRouted} and {@code countUnrouted} run
+ * the slot count with and without the partition predicate to show the scan the routing avoids; both probe a
+ * different history slot on every call, since H2 reuses the result of a repeated identical query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PartitionedHistoryBenchmark {
+
+    private static final int RESERVATIONS_PER_SLOT = 80;
+    private static final int DISTINCT_PLATES = 8000;
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private static final String COUNT_UNROUTED_SQL = """
+            SELECT COUNT(*) FROM parking_reservations
+            WHERE start_time < ? AND end_time > ?
+            """;
+
+    @Param({"0", "1000000", "10000000", "30000000"})
+    private int history;
+
+    private final AtomicLong bookingSequence = new AtomicLong();
+    private Path databaseDirectory;
+    private ConfigurableApplicationContext context;
+    private ParkingService parkingService;
+    private JdbcTemplate jdbcTemplate;
+    private final AtomicLong probeSequence = new AtomicLong();
+    private ParkingReservationRepository reservationRepository;
+    private LocalDateTime firstSlot;
+    private Instant lastHistorySlot;
+    private long historySlots;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        databaseDirectory = Files.createTempDirectory("parking-history");
+        context = new SpringApplicationBuilder(ParkingApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN",
+                        "spring.datasource.url=jdbc:h2:file:" + databaseDirectory.resolve("parkingdb")
+                                + ";CACHE_SIZE=262144")
+                .run();
+        parkingService = context.getBean(ParkingService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        reservationRepository = context.getBean(ParkingReservationRepository.class);
+        lastHistorySlot = Instant.now().truncatedTo(ChronoUnit.DAYS).minus(1, ChronoUnit.DAYS);
+        historySlots = Math.max(1, (history + RESERVATIONS_PER_SLOT - 1) / RESERVATIONS_PER_SLOT);
+        loadHistory(context.getBean(ReservationBatchRepository.class));
+
+        firstSlot = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private void loadHistory(ReservationBatchRepository batchRepository) {
+        var batch = new ArrayList<ParkingReservation>(LOAD_BATCH_SIZE);
+        for (var i = 0; i < history; i++) {
+            var start = lastHistorySlot.minus(i / RESERVATIONS_PER_SLOT, ChronoUnit.HOURS);
+            batch.add(new ParkingReservation(i % RESERVATIONS_PER_SLOT + 1, start, getTimeOneHourLater(start),
+                    "HIST" + (i % DISTINCT_PLATES)));
+            if (batch.size() == LOAD_BATCH_SIZE) {
+                batchRepository.insertAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchRepository.insertAll(batch);
+        }
+    }
+
+    @Benchmark
+    public ReservationResponse book() {
+        var n = bookingSequence.getAndIncrement();
+        return parkingService.createReservation(new ReservationRequest(
+                firstSlot.plusHours(n / RESERVATIONS_PER_SLOT), "PLATE" + (n % DISTINCT_PLATES)));
+    }
+
+    @Benchmark
+    public long countRouted() {
+        var start = nextProbe();
+        return reservationRepository.countByTimeRange(start, getTimeOneHourLater(start));
+    }
+
+    @Benchmark
+    public Long countUnrouted() {
+        var start = nextProbe().atOffset(ZoneOffset.UTC);
+        return jdbcTemplate.queryForObject(COUNT_UNROUTED_SQL, Long.class, start.plusHours(1), start);
+    }
+
+    private Instant nextProbe() {
+        return lastHistorySlot.minus(probeSequence.getAndIncrement() % historySlots, ChronoUnit.HOURS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(databaseDirectory);
+    }
+}
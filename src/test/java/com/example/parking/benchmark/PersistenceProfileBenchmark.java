@@ -0,0 +1,87 @@
+package com.example.parking.benchmark;
+
+import com.example.parking.ParkingApplication;
+import com.example.parking.model.Recurrence;
+import com.example.parking.model.RecurringReservationRequest;
+import com.example.parking.model.ReservationRequest;
+import com.example.parking.model.ReservationResponse;
+import com.example.parking.service.contract.ParkingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PersistenceProfileBenchmark {
+
+    private static final int RESERVATIONS_PER_SLOT = 80;
+    private static final int DISTINCT_PLATES = 8000;
+    private static final int PRELOADED_RESERVATIONS = 10_000;
+    private static final int RECURRING_OCCURRENCES = 8;
+
+    @Param({"default", "perf"})
+    private String profile;
+
+    private final AtomicLong bookingSequence = new AtomicLong();
+    private final AtomicLong recurringSequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private ParkingService parkingService;
+    private LocalDateTime firstSlot;
+    private List<String> reservationIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ParkingApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profile)
+                .properties("logging.level.root=WARN")
+                .run();
+        parkingService = context.getBean(ParkingService.class);
+
+        firstSlot = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        for (var i = 0; i < PRELOADED_RESERVATIONS; i++) {
+            parkingService.createReservation(new ReservationRequest(
+                    firstSlot.plusHours(i / RESERVATIONS_PER_SLOT), "PRELOAD" + (i % DISTINCT_PLATES)));
+        }
+        reservationIds = parkingService.getAllReservations().stream()
+                .map(ReservationResponse::getReservationId)
+                .toList();
+    }
+
+    @Benchmark
+    public ReservationResponse book() {
+        var n = bookingSequence.getAndIncrement();
+        return parkingService.createReservation(new ReservationRequest(
+                firstSlot.plusDays(30).plusHours(n / RESERVATIONS_PER_SLOT), "PLATE" + (n % DISTINCT_PLATES)));
+    }
+
+    @Benchmark
+    public List<ReservationResponse> bookRecurring() {
+        var n = recurringSequence.getAndIncrement();
+        return parkingService.createRecurringReservation(new RecurringReservationRequest(
+                firstSlot.plusYears(1).plusHours(n), "RECUR" + n, Recurrence.DAILY, RECURRING_OCCURRENCES));
+    }
+
+    @Benchmark
+    public ReservationResponse readById() {
+        return parkingService.getReservation(
+                reservationIds.get(ThreadLocalRandom.current().nextInt(reservationIds.size())));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.parking.benchmark;
+
+import com.example.parking.ParkingApplication;
+import com.example.parking.model.BulkFormat;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.service.contract.ParkingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.parking.mapper.ReservationBulkCodec.CSV_HEADER;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class ReservationImportBenchmark {
+
+    private static final int RESERVATIONS_PER_SLOT = 80;
+    private static final int DISTINCT_PLATES = 8000;
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private ParkingService parkingService;
+    private ReservationPlateIndex plateIndex;
+    private JdbcTemplate jdbcTemplate;
+    private Path csvFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(ParkingApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:importbench;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+        parkingService = context.getBean(ParkingService.class);
+        plateIndex = context.getBean(ReservationPlateIndex.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        csvFile = Files.createTempFile("reservations", ".csv");
+        var firstSlot = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        try (var writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (var i = 0; i < rows; i++) {
+                var start = firstSlot.plusHours(i / RESERVATIONS_PER_SLOT);
+                writer.write(",," + start + ",,PLATE" + (i % DISTINCT_PLATES));
+                writer.newLine();
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clear() {
+        jdbcTemplate.execute("TRUNCATE TABLE parking_reservations");
+        plateIndex.clear();
+    }
+
+    @Benchmark
+    public long importCsv() throws IOException {
+        try (var reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            var result = parkingService.importReservations(reader, BulkFormat.CSV);
+            if (result.getImported() != rows) {
+                throw new IllegalStateException("Expected " + rows + " imported rows but got " + result.getImported());
+            }
+            return result.getImported();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(csvFile);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.parking.benchmark;
+
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+import com.example.parking.service.implementation.FirstFitAllocationStrategy;
+import com.example.parking.service.implementation.NeighbourSlotAllocationStrategy;
+import com.example.parking.service.implementation.RandomAllocationStrategy;
+import com.example.parking.service.implementation.ZoneBalancedAllocationStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.parking.util.ParkingServiceTestHelper.createMockReservation;
+import static com.example.parking.util.TestConstants.LICENSE_PLATE;
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpaceAllocationBenchmark {
+
+    @Param({"first-fit", "random", "zone-balanced", "neighbour-slot"})
+    private String strategyName;
+
+    @Param({"100", "50000"})
+    private int totalSpaces;
+
+    @Param({"0.8", "0.99"})
+    private double occupancy;
+
+    private SpaceAllocationStrategy strategy;
+    private BitSet occupiedSpaces;
+    private Instant startTime;
+    private Instant endTime;
+
+    @Setup
+    public void setUp() {
+        startTime = Instant.now().plusSeconds(86_400);
+        endTime = getTimeOneHourLater(startTime);
+
+        var random = new SplittableRandom(42);
+        occupiedSpaces = new BitSet(totalSpaces + 1);
+        for (var spaceId = 1; spaceId <= totalSpaces; spaceId++) {
+            if (random.nextDouble() < occupancy) {
+                occupiedSpaces.set(spaceId);
+            }
+        }
+
+        var plateIndex = new ReservationPlateIndex();
+        plateIndex.add(createMockReservation(occupiedSpaces.nextClearBit(1),
+                startTime.minusSeconds(3600), startTime, LICENSE_PLATE));
+
+        strategy = switch (strategyName) {
+            case "first-fit" -> new FirstFitAllocationStrategy();
+            case "random" -> new RandomAllocationStrategy();
+            case "zone-balanced" -> new ZoneBalancedAllocationStrategy(10);
+            default -> new NeighbourSlotAllocationStrategy(plateIndex, new FirstFitAllocationStrategy());
+        };
+    }
+
+    @Benchmark
+    public int allocate() {
+        return strategy.allocate(occupiedSpaces, totalSpaces, LICENSE_PLATE, startTime, endTime);
+    }
+}
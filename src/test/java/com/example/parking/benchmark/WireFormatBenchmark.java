@@ -0,0 +1,79 @@
+package com.example.parking.benchmark;
+
+import com.example.parking.config.WireFormatConfig;
+import com.example.parking.model.ApiResponse;
+import com.example.parking.model.CompactReservationList;
+import com.example.parking.model.ReservationListResponse;
+import com.example.parking.model.ReservationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+
+/**
+ * Serialization cost of the {@code GET /reservations} body: the JSON envelope as served today, the same
+ * row-wise object graph in CBOR, and the columnar CBOR form (including the conversion to it).
+ * Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class WireFormatBenchmark {
+
+    private static final int RESERVATIONS_PER_SLOT = 80;
+    private static final int DISTINCT_PLATES = 8000;
+
+    @Param({"100", "10000"})
+    private int entries;
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ReservationListResponse list;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        json = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        cbor = WireFormatConfig.cborObjectMapper(new Jackson2ObjectMapperBuilder());
+
+        var firstSlot = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        var reservations = new ArrayList<ReservationResponse>(entries);
+        for (var i = 0; i < entries; i++) {
+            var start = firstSlot.plusHours(i / RESERVATIONS_PER_SLOT);
+            reservations.add(new ReservationResponse(UUID.randomUUID().toString(), i % RESERVATIONS_PER_SLOT + 1,
+                    start, getTimeOneHourLater(start), "PLATE" + (i % DISTINCT_PLATES)));
+        }
+        list = ReservationListResponse.from(reservations, 100);
+
+        System.out.printf("%npayload bytes for %d entries: json=%d cborRows=%d cborColumnar=%d%n", entries,
+                json().length, cborRows().length, cborColumnar().length);
+    }
+
+    @Benchmark
+    public byte[] json() throws JsonProcessingException {
+        return json.writeValueAsBytes(ApiResponse.success(list));
+    }
+
+    @Benchmark
+    public byte[] cborRows() throws JsonProcessingException {
+        return cbor.writeValueAsBytes(ApiResponse.success(list));
+    }
+
+    @Benchmark
+    public byte[] cborColumnar() throws JsonProcessingException {
+        return cbor.writeValueAsBytes(ApiResponse.success(CompactReservationList.from(list)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.parking.controller;
+
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.repository.ParkingReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ParkingControllerTest {
+
+    private static final String RESERVATIONS_URL = "/api/parking/reservations";
+    private static final String UNKNOWN_ID = "no-such-reservation";
+    private static final String HISTORY_PLATE = "HIST-026";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ParkingReservationRepository reservationRepository;
+
+    @Test
+    void getAllReservations_JsonAndCborHaveDistinctETagsAndVaryOnAccept() throws Exception {
+        var json = mockMvc.perform(get(RESERVATIONS_URL).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        var cbor = mockMvc.perform(get(RESERVATIONS_URL).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(json, cbor);
+        mockMvc.perform(get(RESERVATIONS_URL).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(RESERVATIONS_URL).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, cbor))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    void getReservation_UnknownIdIsNotFoundEvenWithACurrentETag() throws Exception {
+        var eTag = mockMvc.perform(get(RESERVATIONS_URL).accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(RESERVATIONS_URL + "/" + UNKNOWN_ID).accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getReservationsByLicensePlate_IncludesEndedReservationsOnlyWhenAskedFor() throws Exception {
+        var startTime = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(3, ChronoUnit.DAYS);
+        var ended = reservationRepository.save(
+                new ParkingReservation(1, startTime, getTimeOneHourLater(startTime), HISTORY_PLATE));
+        try {
+            mockMvc.perform(get(RESERVATIONS_URL).param("plate", "hist 026").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data").isEmpty());
+            mockMvc.perform(get(RESERVATIONS_URL).param("plate", "hist 026").param("includePast", "true")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].reservationId").value(ended.getId()));
+        } finally {
+            reservationRepository.delete(ended);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.parking.diagnostics;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrLatencyReportTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void read_SummarizesPhasesAndOutcomes() throws Exception {
+        var file = tempDir.resolve("parking.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(ReservationAttemptEvent.class);
+            recording.enable(ReservationCancelEvent.class);
+            recording.start();
+
+            for (var i = 0; i < 10; i++) {
+                var attempt = new ReservationAttemptEvent();
+                attempt.begin();
+                attempt.setLockWait(2_000_000);
+                attempt.setCapacityQuery(500_000);
+                attempt.setOutcome(i < 8 ? ParkingOperationEvent.SUCCESS : "FULL");
+                attempt.commit();
+            }
+
+            var cancel = new ReservationCancelEvent();
+            cancel.begin();
+            cancel.setOutcome(ParkingOperationEvent.SUCCESS);
+            cancel.commit();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        var report = new JfrLatencyReport();
+        report.read(file);
+
+        assertEquals(10, report.getHistograms().get("attempt.lockWait").count());
+        assertEquals(2000, report.getHistograms().get("attempt.lockWait").maxMicros());
+        assertTrue(report.getHistograms().get("attempt.capacityQuery").percentileMicros(99) >= 500);
+        assertEquals(8L, report.getOutcomes().get("attempt.SUCCESS"));
+        assertEquals(2L, report.getOutcomes().get("attempt.FULL"));
+        assertEquals(1L, report.getOutcomes().get("cancel.SUCCESS"));
+    }
+}
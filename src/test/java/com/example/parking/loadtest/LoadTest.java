@@ -0,0 +1,211 @@
+package com.example.parking.loadtest;
+
+import com.example.parking.loadtest.LoadTestConfig.Operation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+public class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    private final URI baseUri;
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+    private final Operation[] schedule;
+    private final Map<Operation, OperationRecorder> recorders = new EnumMap<>(Operation.class);
+    private final ConcurrentLinkedDeque<String> reservationIds = new ConcurrentLinkedDeque<>();
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+    private final AtomicLong dropped = new AtomicLong();
+
+    public LoadTest(URI baseUri, LoadTestConfig config, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.schedule = config.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+        config.mix().keySet().forEach(operation -> recorders.put(operation, new OperationRecorder()));
+    }
+
+    public LoadTestReport run(String label) throws InterruptedException {
+        drive(config.warmup());
+        awaitInFlight();
+        recorders.values().forEach(OperationRecorder::reset);
+        dropped.set(0);
+
+        var startedAt = Instant.now();
+        var measuredNanos = drive(config.duration());
+        awaitInFlight();
+        return report(label, startedAt, measuredNanos);
+    }
+
+    private long drive(Duration duration) {
+        var intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.requestsPerSecond());
+        var start = System.nanoTime();
+        var end = start + duration.toNanos();
+        var arrival = 0L;
+
+        for (var intended = start; intended < end; intended = start + ++arrival * intervalNanos) {
+            var wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                dropped.incrementAndGet();
+                continue;
+            }
+            send(schedule[(int) (arrival % schedule.length)], intended);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void send(Operation operation, long intendedNanos) {
+        var request = request(operation);
+        var recorder = recorders.get(operation);
+        if (request == null) {
+            inFlight.release();
+            return;
+        }
+
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    recorder.record(System.nanoTime() - intendedNanos, response == null ? -1 : response.statusCode());
+                    if (response != null && operation == Operation.CREATE && response.statusCode() == 201) {
+                        rememberReservation(response.body());
+                    }
+                    inFlight.release();
+                });
+    }
+
+    private HttpRequest request(Operation operation) {
+        var random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case CREATE -> {
+                var start = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS)
+                        .plusHours(1 + random.nextInt(config.days() * 24));
+                var body = "{\"startTime\":\"" + start + "\",\"licensePlate\":\"LT" + random.nextInt(config.plates()) + "\"}";
+                yield HttpRequest.newBuilder(baseUri.resolve("/api/parking/reservations"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            case CANCEL -> {
+                var id = reservationIds.pollFirst();
+                yield id == null ? null : HttpRequest.newBuilder(baseUri.resolve("/api/parking/reservations/" + id))
+                        .DELETE()
+                        .build();
+            }
+            case GET -> {
+                var id = reservationIds.peekLast();
+                yield id == null ? null : HttpRequest.newBuilder(baseUri.resolve("/api/parking/reservations/" + id))
+                        .GET()
+                        .build();
+            }
+            case LIST -> HttpRequest.newBuilder(baseUri.resolve("/api/parking/reservations")).GET().build();
+        };
+    }
+
+    private void rememberReservation(String body) {
+        try {
+            var id = objectMapper.readTree(body).path("data").path("reservationId").asText(null);
+            if (id != null) {
+                reservationIds.addLast(id);
+            }
+        } catch (Exception ignored) {
+            // a malformed body is already counted through the status code
+        }
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        inFlight.acquire(MAX_IN_FLIGHT);
+        inFlight.release(MAX_IN_FLIGHT);
+    }
+
+    private LoadTestReport report(String label, Instant startedAt, long measuredNanos) {
+        var seconds = measuredNanos / 1e9;
+        var operations = new EnumMap<Operation, LoadTestReport.OperationStats>(Operation.class);
+        var total = 0L;
+        for (var entry : recorders.entrySet()) {
+            var stats = entry.getValue().stats(seconds);
+            operations.put(entry.getKey(), stats);
+            total += stats.count();
+        }
+        return new LoadTestReport(label, startedAt.toString(), config.requestsPerSecond(),
+                config.duration().toSeconds(), config.mix(), total / seconds, dropped.get(), operations);
+    }
+
+    private static final class OperationRecorder {
+
+        private final Recorder latency = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        private final AtomicLong success = new AtomicLong();
+        private final AtomicLong clientErrors = new AtomicLong();
+        private final AtomicLong serverErrors = new AtomicLong();
+        private final AtomicLong transportErrors = new AtomicLong();
+
+        void record(long nanos, int status) {
+            latency.recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+            if (status < 0) {
+                transportErrors.incrementAndGet();
+            } else if (status >= 500) {
+                serverErrors.incrementAndGet();
+            } else if (status >= 400) {
+                clientErrors.incrementAndGet();
+            } else {
+                success.incrementAndGet();
+            }
+        }
+
+        void reset() {
+            latency.reset();
+            success.set(0);
+            clientErrors.set(0);
+            serverErrors.set(0);
+            transportErrors.set(0);
+        }
+
+        LoadTestReport.OperationStats stats(double seconds) {
+            var histogram = latency.getIntervalHistogram();
+            return new LoadTestReport.OperationStats(
+                    histogram.getTotalCount(),
+                    success.get(),
+                    clientErrors.get(),
+                    serverErrors.get(),
+                    transportErrors.get(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+}
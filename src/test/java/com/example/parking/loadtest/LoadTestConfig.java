@@ -0,0 +1,37 @@
+package com.example.parking.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record LoadTestConfig(double requestsPerSecond,
+                             Duration duration,
+                             Duration warmup,
+                             Map<Operation, Integer> mix,
+                             int plates,
+                             int days) {
+
+    public enum Operation {
+        CREATE, CANCEL, GET, LIST
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.warmup", "10"))),
+                parseMix(System.getProperty("loadtest.mix", "create=50,get=30,list=5,cancel=15")),
+                Integer.parseInt(System.getProperty("loadtest.plates", "5000")),
+                Integer.parseInt(System.getProperty("loadtest.days", "30"))
+        );
+    }
+
+    public static Map<Operation, Integer> parseMix(String mix) {
+        var weights = new LinkedHashMap<Operation, Integer>();
+        for (var part : mix.split(",")) {
+            var pair = part.trim().split("=");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
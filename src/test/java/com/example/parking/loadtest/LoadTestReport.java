@@ -0,0 +1,26 @@
+package com.example.parking.loadtest;
+
+import java.util.Map;
+
+public record LoadTestReport(String label,
+                             String startedAt,
+                             double targetRate,
+                             long durationSeconds,
+                             Map<LoadTestConfig.Operation, Integer> mix,
+                             double achievedThroughput,
+                             long droppedArrivals,
+                             Map<LoadTestConfig.Operation, OperationStats> operations) {
+
+    public record OperationStats(long count,
+                                 long success,
+                                 long clientErrors,
+                                 long serverErrors,
+                                 long transportErrors,
+                                 double throughput,
+                                 double p50Millis,
+                                 double p90Millis,
+                                 double p99Millis,
+                                 double p999Millis,
+                                 double maxMillis) {
+    }
+}
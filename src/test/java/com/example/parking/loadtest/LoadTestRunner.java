@@ -0,0 +1,49 @@
+package com.example.parking.loadtest;
+
+import com.example.parking.ParkingApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var config = LoadTestConfig.fromSystemProperties();
+        var label = System.getProperty("loadtest.label", "local");
+        var reportDir = Path.of(System.getProperty("loadtest.report-dir", "target/loadtest"));
+
+        try (var context = new SpringApplicationBuilder(ParkingApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN", "parking.rate-limit.enabled=false")
+                .run(args)) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var objectMapper = context.getBean(ObjectMapper.class);
+
+            var report = new LoadTest(URI.create("http://localhost:" + port), config, objectMapper).run(label);
+
+            Files.createDirectories(reportDir);
+            var file = reportDir.resolve("report-" + label + "-" + System.currentTimeMillis() + ".json");
+            objectMapper.copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(file.toFile(), report);
+            print(report);
+            System.out.println("Report written to " + file.toAbsolutePath());
+        }
+    }
+
+    private static void print(LoadTestReport report) {
+        System.out.printf("%-8s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                "op", "count", "ok", "4xx", "5xx", "p50(ms)", "p99(ms)", "p99.9", "max(ms)");
+        report.operations().forEach((operation, stats) -> System.out.printf(
+                "%-8s %9d %9d %9d %9d %9.2f %9.2f %9.2f %9.2f%n",
+                operation, stats.count(), stats.success(), stats.clientErrors(), stats.serverErrors(),
+                stats.p50Millis(), stats.p99Millis(), stats.p999Millis(), stats.maxMillis()));
+        System.out.printf("throughput: %.1f req/s (target %.1f), dropped arrivals: %d%n",
+                report.achievedThroughput(), report.targetRate(), report.droppedArrivals());
+    }
+}
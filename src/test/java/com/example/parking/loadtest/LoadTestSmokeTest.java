@@ -0,0 +1,56 @@
+package com.example.parking.loadtest;
+
+import com.example.parking.loadtest.LoadTestConfig.Operation;
+import com.example.parking.repository.ParkingReservationRepository;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "parking.rate-limit.enabled=false")
+class LoadTestSmokeTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ParkingReservationRepository repository;
+
+    @Autowired
+    private ReservationPlateIndex plateIndex;
+
+    @BeforeEach
+    void cleanUp() {
+        repository.deleteAll();
+        plateIndex.clear();
+    }
+
+    @Test
+    void run_DrivesEveryOperationThroughHttp() throws InterruptedException {
+        var config = new LoadTestConfig(50, Duration.ofSeconds(2), Duration.ofSeconds(1),
+                LoadTestConfig.parseMix("create=4,get=2,list=1,cancel=1"), 100, 7);
+
+        var report = new LoadTest(URI.create("http://localhost:" + port), config, objectMapper).run("smoke");
+
+        assertTrue(report.operations().get(Operation.CREATE).success() > 0);
+        assertTrue(report.operations().get(Operation.LIST).count() > 0);
+        report.operations().values().forEach(stats -> {
+            assertEquals(0, stats.serverErrors());
+            assertEquals(0, stats.transportErrors());
+        });
+    }
+}
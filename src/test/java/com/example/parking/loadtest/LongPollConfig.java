@@ -0,0 +1,18 @@
+package com.example.parking.loadtest;
+
+import java.time.Duration;
+
+public record LongPollConfig(int clients,
+                             Duration pollTimeout,
+                             double connectRate,
+                             Duration settle) {
+
+    public static LongPollConfig fromSystemProperties() {
+        return new LongPollConfig(
+                Integer.parseInt(System.getProperty("comparison.clients", "20000")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("comparison.wait", "60"))),
+                Double.parseDouble(System.getProperty("comparison.connect-rate", "2000")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("comparison.settle", "5")))
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.parking.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Parks {@code clients} long-poll requests on one slot, samples the server while they are all in flight,
+ * then books that slot once and measures how quickly every parked client is released.
+ */
+public class LongPollTest {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final Duration RESPONSE_GRACE = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final LongPollConfig config;
+    private final ServerProbe probe;
+    private final HttpClient client;
+
+    public LongPollTest(URI baseUri, LongPollConfig config, ServerProbe probe) {
+        this.baseUri = baseUri;
+        this.config = config;
+        this.probe = probe;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public StackComparisonReport.StackResult run(String stack) throws IOException, InterruptedException {
+        var slot = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+        var slotUri = baseUri.resolve("/api/parking/reservations?slot=" + slot);
+        var eTag = client.send(HttpRequest.newBuilder(slotUri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                .headers()
+                .firstValue("ETag")
+                .orElseThrow(() -> new IllegalStateException("Slot listing returned no ETag"));
+        var idle = probe.sample();
+
+        var poll = HttpRequest.newBuilder(URI.create(slotUri + "&wait=" + config.pollTimeout().toSeconds()))
+                .header("If-None-Match", eTag)
+                .timeout(config.pollTimeout().plus(RESPONSE_GRACE))
+                .GET()
+                .build();
+        var updated = new LongAdder();
+        var notModified = new LongAdder();
+        var failed = new LongAdder();
+        var releaseLatency = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        var releasedAt = new AtomicLong();
+        var pending = new CountDownLatch(config.clients());
+
+        var intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.connectRate());
+        var start = System.nanoTime();
+        for (var i = 0; i < config.clients(); i++) {
+            var wait = start + i * intervalNanos - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            client.sendAsync(poll, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                if (error != null || response.statusCode() >= 400) {
+                    failed.increment();
+                } else if (response.statusCode() == 304) {
+                    notModified.increment();
+                } else {
+                    updated.increment();
+                    var released = releasedAt.get();
+                    if (released > 0) {
+                        releaseLatency.recordValue(Math.min(System.nanoTime() - released, HIGHEST_TRACKABLE_NANOS));
+                    }
+                }
+                pending.countDown();
+            });
+        }
+
+        Thread.sleep(config.settle().toMillis());
+        var inFlight = pending.getCount();
+        var peak = probe.sample();
+
+        releasedAt.set(System.nanoTime());
+        var body = "{\"startTime\":\"" + slot + "\",\"licensePlate\":\"LP" + ThreadLocalRandom.current().nextInt(1_000_000) + "\"}";
+        var booked = client.send(HttpRequest.newBuilder(baseUri.resolve("/api/parking/reservations"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        if (booked.statusCode() != 201) {
+            throw new IllegalStateException("Releasing booking failed with status " + booked.statusCode());
+        }
+        pending.await(config.pollTimeout().plus(RESPONSE_GRACE).toMillis(), TimeUnit.MILLISECONDS);
+
+        return new StackComparisonReport.StackResult(stack, config.clients(), inFlight, idle, peak,
+                perInFlight(peak.liveHeapBytes() - idle.liveHeapBytes(), inFlight),
+                perInFlight(peak.residentBytes() - idle.residentBytes(), inFlight),
+                updated.sum(), notModified.sum(), failed.sum() + pending.getCount(),
+                millis(releaseLatency.getValueAtPercentile(50)),
+                millis(releaseLatency.getValueAtPercentile(99)),
+                millis(releaseLatency.getMaxValue()));
+    }
+
+    private static double perInFlight(long bytes, long inFlight) {
+        return inFlight == 0 ? 0 : (double) bytes / inFlight;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.parking.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * Samples a server process from the outside: open sockets and threads from {@code /proc} (Linux only,
+ * -1 elsewhere) and live heap after a forced full GC through {@code jcmd}.
+ */
+public class ServerProbe {
+
+    private static final Pattern HEAP_USED = Pattern.compile("total\\s+\\d+K,\\s+used\\s+(\\d+)K");
+
+    private final long pid;
+    private final Path jcmd = Path.of(System.getProperty("java.home"), "bin", "jcmd");
+
+    public ServerProbe(long pid) {
+        this.pid = pid;
+    }
+
+    public record Sample(long openSockets, long threads, long residentBytes, long liveHeapBytes) {
+    }
+
+    public Sample sample() {
+        return new Sample(openSockets(), statusField("Threads:"), statusField("VmRSS:") * 1024, liveHeapBytes());
+    }
+
+    private long openSockets() {
+        var fds = Path.of("/proc", Long.toString(pid), "fd");
+        if (!Files.isDirectory(fds)) {
+            return -1;
+        }
+        try (var entries = Files.list(fds)) {
+            return entries.filter(fd -> {
+                try {
+                    return Files.readSymbolicLink(fd).toString().startsWith("socket:");
+                } catch (IOException ex) {
+                    return false;
+                }
+            }).count();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private long statusField(String field) {
+        var status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        try (var lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith(field))
+                    .map(line -> line.substring(field.length()).trim().split("\\s+")[0])
+                    .mapToLong(Long::parseLong)
+                    .findFirst()
+                    .orElse(-1);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private long liveHeapBytes() {
+        jcmd("GC.run");
+        var output = jcmd("GC.heap_info");
+        var matcher = HEAP_USED.matcher(output);
+        var usedKilobytes = -1L;
+        while (matcher.find()) {
+            usedKilobytes = Math.max(usedKilobytes, 0) + Long.parseLong(matcher.group(1));
+        }
+        return usedKilobytes < 0 ? -1 : usedKilobytes * 1024;
+    }
+
+    private String jcmd(String command) {
+        try {
+            var process = new ProcessBuilder(jcmd.toString(), Long.toString(pid), command)
+                    .redirectErrorStream(true)
+                    .start();
+            var output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            process.waitFor();
+            return output;
+        } catch (IOException ex) {
+            return "";
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return "";
+        }
+    }
+}
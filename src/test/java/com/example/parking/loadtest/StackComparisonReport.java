@@ -0,0 +1,23 @@
+package com.example.parking.loadtest;
+
+import java.util.List;
+
+public record StackComparisonReport(String startedAt,
+                                    LongPollConfig config,
+                                    List<StackResult> stacks) {
+
+    public record StackResult(String stack,
+                              int clients,
+                              long inFlightAtPeak,
+                              ServerProbe.Sample idle,
+                              ServerProbe.Sample peak,
+                              double heapBytesPerInFlight,
+                              double residentBytesPerInFlight,
+                              long updated,
+                              long notModified,
+                              long failed,
+                              double releaseP50Millis,
+                              double releaseP99Millis,
+                              double releaseMaxMillis) {
+    }
+}
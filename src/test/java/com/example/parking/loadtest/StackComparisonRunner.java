@@ -0,0 +1,120 @@
+package com.example.parking.loadtest;
+
+import com.example.parking.ParkingApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots each stack in its own JVM (same heap, same classpath) and parks the configured number of
+ * long-poll clients on it, so connection counts and memory are measured for the server process alone.
+ */
+public class StackComparisonRunner {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var config = LongPollConfig.fromSystemProperties();
+        var stacks = System.getProperty("comparison.stacks", "servlet,reactive").split(",");
+        var reportDir = Path.of(System.getProperty("comparison.report-dir", "target/loadtest"));
+
+        var startedAt = Instant.now();
+        var results = new ArrayList<StackComparisonReport.StackResult>();
+        for (var stack : stacks) {
+            results.add(run(stack.trim(), config));
+        }
+        var report = new StackComparisonReport(startedAt.toString(), config, results);
+
+        Files.createDirectories(reportDir);
+        var file = reportDir.resolve("stack-comparison-" + System.currentTimeMillis() + ".json");
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), report);
+        print(report);
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+
+    private static StackComparisonReport.StackResult run(String stack, LongPollConfig config)
+            throws IOException, InterruptedException {
+        var port = freePort();
+        var heap = System.getProperty("comparison.heap", "1g");
+        var command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xms" + heap, "-Xmx" + heap,
+                "-cp", System.getProperty("java.class.path"),
+                ParkingApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.profiles.active=" + ("servlet".equals(stack) ? "default" : stack),
+                "--logging.level.root=WARN"));
+        var serverArgs = System.getProperty("comparison.server-args", "").trim();
+        if (!serverArgs.isEmpty()) {
+            command.addAll(Arrays.asList(serverArgs.split("\\s+")));
+        }
+
+        var server = new ProcessBuilder(command).inheritIO().start();
+        try {
+            var baseUri = URI.create("http://localhost:" + port);
+            awaitReady(baseUri, server);
+            return new LongPollTest(baseUri, config, new ServerProbe(server.pid())).run(stack);
+        } finally {
+            server.destroy();
+            if (!server.waitFor(30, TimeUnit.SECONDS)) {
+                server.destroyForcibly();
+            }
+        }
+    }
+
+    private static void awaitReady(URI baseUri, Process server) throws InterruptedException {
+        var client = HttpClient.newHttpClient();
+        var probe = HttpRequest.newBuilder(baseUri.resolve("/api/parking/lot")).GET().build();
+        var deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!server.isAlive()) {
+                throw new IllegalStateException("Server exited with status " + server.exitValue());
+            }
+            try {
+                if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ignored) {
+                // not listening yet
+            }
+            Thread.sleep(250);
+        }
+        throw new IllegalStateException("Server did not start within " + STARTUP_TIMEOUT);
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void print(StackComparisonReport report) {
+        System.out.printf("%-9s %8s %9s %8s %8s %9s %9s %8s %6s %7s %9s %9s%n",
+                "stack", "clients", "inflight", "sockets", "threads", "heapMB", "B/inflt", "rssB/if",
+                "200", "failed", "rel p50", "rel p99");
+        report.stacks().forEach(result -> System.out.printf(
+                "%-9s %8d %9d %8d %8d %9.1f %9.0f %8.0f %6d %7d %9.1f %9.1f%n",
+                result.stack(), result.clients(), result.inFlightAtPeak(),
+                result.peak().openSockets(), result.peak().threads(),
+                result.peak().liveHeapBytes() / (1024.0 * 1024.0),
+                result.heapBytesPerInFlight(), result.residentBytesPerInFlight(),
+                result.updated(), result.failed(), result.releaseP50Millis(), result.releaseP99Millis()));
+    }
+}
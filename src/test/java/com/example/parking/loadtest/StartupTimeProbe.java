@@ -0,0 +1,87 @@
+package com.example.parking.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the application in a fresh JVM and measures the wall time from process launch to the first
+ * {@code POST /api/parking/reservations} that returns 201, which is when a new replica can actually take bookings.
+ */
+public class StartupTimeProbe {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final Duration timeout;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    public StartupTimeProbe(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration timeToFirstBooking(List<String> launchCommand) throws IOException, InterruptedException {
+        var port = freePort();
+        var command = new ArrayList<>(launchCommand);
+        command.add("--server.port=" + port);
+        command.add("--logging.level.root=WARN");
+        var booking = bookingRequest(URI.create("http://localhost:" + port));
+
+        var start = System.nanoTime();
+        var server = new ProcessBuilder(command).inheritIO().start();
+        try {
+            var deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!server.isAlive()) {
+                    throw new IllegalStateException("Server exited with status " + server.exitValue());
+                }
+                try {
+                    var status = client.send(booking, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status == 201) {
+                        return Duration.ofNanos(System.nanoTime() - start);
+                    }
+                    if (status != 404 && status != 503) {
+                        throw new IllegalStateException("First booking failed with status " + status);
+                    }
+                } catch (IOException ignored) {
+                    // not listening yet
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException("No successful booking within " + timeout);
+        } finally {
+            server.destroy();
+            if (!server.waitFor(30, TimeUnit.SECONDS)) {
+                server.destroyForcibly();
+            }
+        }
+    }
+
+    private static HttpRequest bookingRequest(URI baseUri) {
+        var slot = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+        var body = "{\"startTime\":\"" + slot + "\",\"licensePlate\":\"LP" + ThreadLocalRandom.current().nextInt(1_000_000) + "\"}";
+        return HttpRequest.newBuilder(baseUri.resolve("/api/parking/reservations"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.parking.loadtest;
+
+import java.util.List;
+
+public record StartupTimeReport(String startedAt,
+                                int runs,
+                                List<VariantResult> variants) {
+
+    public record VariantResult(String variant,
+                                List<String> command,
+                                double minMillis,
+                                double medianMillis,
+                                double maxMillis) {
+    }
+}
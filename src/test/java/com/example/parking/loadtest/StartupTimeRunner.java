@@ -0,0 +1,85 @@
+package com.example.parking.loadtest;
+
+import com.example.parking.ParkingApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Compares time to first booking for the default profile, the fast-startup profile and, when the {@code cds}
+ * build profile has produced an archive, the fast-startup profile launched with that archive.
+ * When {@code startup.jar} points at the extracted jar every variant runs from it; CDS archives only match the
+ * classpath they were trained on, so the CDS variant needs it. Otherwise the variants run from the test classpath.
+ */
+public class StartupTimeRunner {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var runs = Integer.parseInt(System.getProperty("startup.runs", "5"));
+        var jar = System.getProperty("startup.jar", "");
+        if (!jar.isEmpty() && !Files.exists(Path.of(jar))) {
+            jar = "";
+        }
+        var archive = Path.of(System.getProperty("startup.archive", "target/cds/parking.jsa"));
+        var reportDir = Path.of(System.getProperty("startup.report-dir", "target/loadtest"));
+
+        var variants = new LinkedHashMap<String, List<String>>();
+        variants.put("default", launch(jar, List.of(), "default"));
+        variants.put("fast-startup", launch(jar, List.of(), "fast-startup"));
+        if (!jar.isEmpty() && Files.exists(archive)) {
+            variants.put("fast-startup+cds", launch(jar, List.of("-XX:SharedArchiveFile=" + archive), "fast-startup"));
+        }
+
+        var startedAt = Instant.now();
+        var probe = new StartupTimeProbe(STARTUP_TIMEOUT);
+        var results = new ArrayList<StartupTimeReport.VariantResult>();
+        for (var variant : variants.entrySet()) {
+            var millis = new double[runs];
+            for (var run = 0; run < runs; run++) {
+                millis[run] = probe.timeToFirstBooking(variant.getValue()).toNanos() / 1_000_000.0;
+            }
+            Arrays.sort(millis);
+            results.add(new StartupTimeReport.VariantResult(variant.getKey(), variant.getValue(),
+                    millis[0], millis[runs / 2], millis[runs - 1]));
+        }
+        var report = new StartupTimeReport(startedAt.toString(), runs, results);
+
+        Files.createDirectories(reportDir);
+        var file = reportDir.resolve("startup-" + System.currentTimeMillis() + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), report);
+        print(report);
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+
+    static List<String> launch(String jar, List<String> jvmArgs, String profile) {
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        if (jar.isEmpty()) {
+            command.addAll(List.of("-Dspring.devtools.restart.enabled=false",
+                    "-cp", System.getProperty("java.class.path"), ParkingApplication.class.getName()));
+        } else {
+            command.addAll(List.of("-jar", jar));
+        }
+        command.add("--spring.profiles.active=" + profile);
+        return command;
+    }
+
+    private static void print(StartupTimeReport report) {
+        System.out.printf("%-18s %10s %12s %10s%n", "variant", "min(ms)", "median(ms)", "max(ms)");
+        report.variants().forEach(result -> System.out.printf("%-18s %10.0f %12.0f %10.0f%n",
+                result.variant(), result.minMillis(), result.medianMillis(), result.maxMillis()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.parking.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("loadtest")
+class StartupTimeSmokeTest {
+
+    @Test
+    void timeToFirstBooking_FastStartupProfileAcceptsBookings() throws Exception {
+        var probe = new StartupTimeProbe(Duration.ofMinutes(2));
+
+        var elapsed = probe.timeToFirstBooking(StartupTimeRunner.launch("", List.of(), "fast-startup"));
+
+        assertTrue(elapsed.isPositive());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.parking.model;
+
+import com.example.parking.config.WireFormatConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.parking.util.TestConstants.TEST_PLATE_001;
+import static com.example.parking.util.TestConstants.TEST_PLATE_002;
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactReservationListTest {
+
+    private final LocalDateTime start = LocalDateTime.of(2030, 1, 15, 9, 0);
+    private final UUID uuid = UUID.randomUUID();
+    private final List<ReservationResponse> reservations = List.of(
+            new ReservationResponse(uuid.toString(), 3, start, getTimeOneHourLater(start), TEST_PLATE_001),
+            new ReservationResponse("imported-42", 7, start, getTimeOneHourLater(start), TEST_PLATE_002));
+
+    @Test
+    void from_EncodesUuidsAsBytesAndTimesAsEpochSeconds() {
+        var compact = CompactReservationList.from(ReservationListResponse.from(reservations, 100));
+
+        var id = ByteBuffer.wrap((byte[]) compact.getIds().getFirst());
+        assertEquals(uuid, new UUID(id.getLong(), id.getLong()));
+        assertEquals("imported-42", compact.getIds().get(1));
+        assertArrayEquals(new int[]{3, 7}, compact.getSpaceIds());
+        var epochSeconds = start.atZone(ZoneId.systemDefault()).toEpochSecond();
+        assertArrayEquals(new long[]{epochSeconds, epochSeconds}, compact.getStartTimes());
+        assertEquals(epochSeconds + 3600, compact.getEndTimes()[0]);
+        assertEquals(98, compact.getAvailableSpaces());
+        assertNull(CompactReservationList.from(reservations).getAvailableSpaces());
+    }
+
+    @Test
+    void cborObjectMapper_WritesColumnsAndEpochTimestamps() throws Exception {
+        var cbor = WireFormatConfig.cborObjectMapper(new Jackson2ObjectMapperBuilder());
+        var response = ApiResponse.success(CompactReservationList.from(ReservationListResponse.from(reservations, 100)));
+
+        var bytes = cbor.writeValueAsBytes(response);
+        var tree = cbor.readTree(bytes);
+
+        assertTrue(tree.get("timestamp").isIntegralNumber());
+        assertTrue(tree.get("data").get("ids").get(0).isBinary());
+        assertEquals(2, tree.get("data").get("startTimes").size());
+        var json = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsBytes(ApiResponse.success(ReservationListResponse.from(reservations, 100)));
+        assertTrue(bytes.length < json.length);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.ParkingReservation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.example.parking.util.TestConstants.TEST_PLATE_001;
+import static com.example.parking.util.TestConstants.TEST_PLATE_002;
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ParkingReservationRepositoryTest {
+
+    @Autowired
+    private ParkingReservationRepository reservationRepository;
+
+    private final Instant midnight = Instant.now().truncatedTo(ChronoUnit.DAYS).plus(2, ChronoUnit.DAYS);
+
+    @Test
+    void findSpaceIdsByTimeRange_ReturnsTheSpacesOfOverlappingReservationsAcrossPartitions() {
+        var beforeMidnight = midnight.minus(1, ChronoUnit.HOURS);
+        reservationRepository.save(new ParkingReservation(3, beforeMidnight, midnight, TEST_PLATE_001));
+        reservationRepository.save(new ParkingReservation(7, midnight, getTimeOneHourLater(midnight), TEST_PLATE_002));
+        reservationRepository.save(new ParkingReservation(9, getTimeOneHourLater(midnight),
+                midnight.plus(2, ChronoUnit.HOURS), TEST_PLATE_002));
+
+        var spaceIds = reservationRepository.findSpaceIdsByTimeRange(beforeMidnight.plus(30, ChronoUnit.MINUTES),
+                midnight.plus(30, ChronoUnit.MINUTES));
+
+        assertEquals(List.of(3, 7), spaceIds.stream().sorted().toList());
+        assertEquals(List.of(), reservationRepository.findSpaceIdsByTimeRange(midnight.plus(3, ChronoUnit.HOURS),
+                midnight.plus(4, ChronoUnit.HOURS)));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.parking.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationVersionsTest {
+
+    private final ReservationVersions versions = new ReservationVersions();
+    private final Instant pastSlot = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(3, ChronoUnit.HOURS);
+    private final Instant futureSlot = pastSlot.plus(5, ChronoUnit.HOURS);
+
+    @Test
+    void pruneBefore_ForgetsEndedSlotsWithoutMovingTheirVersionsBack() {
+        versions.bump(pastSlot);
+        versions.bump(pastSlot.plus(1, ChronoUnit.HOURS));
+        versions.bump(futureSlot);
+        var pastVersion = versions.forSlot(pastSlot, getTimeOneHourLater(pastSlot));
+        var laterPastVersion = versions.forSlot(pastSlot.plus(1, ChronoUnit.HOURS), pastSlot.plus(2, ChronoUnit.HOURS));
+        var futureVersion = versions.forSlot(futureSlot, getTimeOneHourLater(futureSlot));
+
+        versions.pruneBefore(pastSlot.plus(2, ChronoUnit.HOURS));
+
+        assertEquals(1, versions.slotVersionCount());
+        assertNotEquals(pastVersion, laterPastVersion);
+        assertEquals(laterPastVersion, versions.forSlot(pastSlot, getTimeOneHourLater(pastSlot)));
+        assertEquals(futureVersion, versions.forSlot(futureSlot, getTimeOneHourLater(futureSlot)));
+    }
+
+    @Test
+    void awaitSlotChange_RemovesTheSlotOnceItsLastWaiterCompletes() {
+        var known = versions.forSlot(futureSlot, getTimeOneHourLater(futureSlot));
+        var waiter = versions.awaitSlotChange(futureSlot, known, Duration.ofMinutes(1));
+        assertEquals(1, versions.waitedSlotCount());
+
+        versions.bump(futureSlot);
+
+        assertNotEquals(known, waiter.join());
+        // the slot is removed by a stage that runs just after the waiter completes
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (versions.waitedSlotCount() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(0, versions.waitedSlotCount());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.parking.repository;
+
+import com.example.parking.entity.WaitlistEntry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class WaitlistEntryRepositoryTest {
+
+    @Autowired
+    private WaitlistEntryRepository waitlistRepository;
+
+    private final Instant startTime = Instant.now().truncatedTo(ChronoUnit.HOURS).plus(2, ChronoUnit.HOURS);
+    private final Instant endTime = getTimeOneHourLater(startTime);
+
+    @Test
+    void existsWaitingOverlappingByLicensePlate_ComparesNormalizedPlates() {
+        waitlistRepository.save(new WaitlistEntry(startTime, endTime, "ab 123"));
+
+        assertTrue(waitlistRepository.existsWaitingOverlappingByLicensePlate("AB123", startTime, endTime));
+        assertTrue(waitlistRepository.existsWaitingOverlappingByLicensePlate("Ab-123", startTime, endTime));
+        assertFalse(waitlistRepository.existsWaitingOverlappingByLicensePlate("AB124", startTime, endTime));
+        assertFalse(waitlistRepository.existsWaitingOverlappingByLicensePlate("AB123", endTime,
+                getTimeOneHourLater(endTime)));
+    }
+
+    @Test
+    void existsWaitingOverlappingByLicensePlate_IgnoresEntriesThatAreNoLongerWaiting() {
+        var entry = new WaitlistEntry(startTime, endTime, "ab 123");
+        entry.expire();
+        waitlistRepository.save(entry);
+
+        assertFalse(waitlistRepository.existsWaitingOverlappingByLicensePlate("AB123", startTime, endTime));
+    }
+}
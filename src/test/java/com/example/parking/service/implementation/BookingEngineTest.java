@@ -0,0 +1,60 @@
+package com.example.parking.service.implementation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.parking.util.Constants.MSG_ENGINE_STOPPED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingEngineTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Test
+    void close_FailsQueuedCommandsAndSubmittersWaitingOnAFullBuffer() throws Exception {
+        var engine = new BookingEngine("booking-engine-test", 2, 1, () -> {
+        }, () -> {
+        });
+        engine.start();
+
+        var running = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var blocking = engine.submit(() -> {
+            running.countDown();
+            awaitQuietly(release);
+            return "done";
+        });
+        assertTrue(running.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        var queued = engine.submit(() -> "queued");
+        var alsoQueued = engine.submit(() -> "also queued");
+        var waitingForSpace = CompletableFuture.supplyAsync(() -> engine.submit(() -> "waiting")).thenCompose(f -> f);
+
+        var closed = CompletableFuture.runAsync(engine::close);
+        assertEngineStopped(waitingForSpace);
+        release.countDown();
+        closed.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals("done", blocking.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEngineStopped(queued);
+        assertEngineStopped(alsoQueued);
+        assertEngineStopped(engine.submit(() -> "late"));
+    }
+
+    private static void assertEngineStopped(CompletableFuture<?> future) {
+        var ex = assertThrows(ExecutionException.class, () -> future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertEquals(MSG_ENGINE_STOPPED, ex.getCause().getMessage());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
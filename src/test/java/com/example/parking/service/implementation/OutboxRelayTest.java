@@ -0,0 +1,95 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.entity.ChangeType;
+import com.example.parking.mapper.ReservationMapper;
+import com.example.parking.model.ReservationChangeResponse;
+import com.example.parking.repository.OutboxCursorRepository;
+import com.example.parking.repository.ReservationChangeRepository;
+import com.example.parking.service.contract.ChangeFeedService;
+import com.example.parking.service.contract.ChangeSink;
+import com.example.parking.service.contract.ParkingService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.example.parking.util.ParkingServiceTestHelper.createReservationRequest;
+import static com.example.parking.util.TestConstants.TEST_PLATE_001;
+import static com.example.parking.util.TestConstants.TEST_PLATE_002;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class OutboxRelayTest {
+
+    private final ParkingService parkingService;
+
+    private final ChangeFeedService changeFeedService;
+
+    private final ChangeSink changeSink;
+
+    private final OutboxRelay relay;
+
+    private final ReservationChangeRepository changeRepository;
+
+    private final OutboxCursorRepository cursorRepository;
+
+    private final ReservationMapper reservationMapper;
+
+    private final PlatformTransactionManager transactionManager;
+
+    @Test
+    void createAndCancel_ArePublishedInOrderAndReadableByCursor() {
+        relay.relay();
+        var cursor = changeRepository.findMaxPosition();
+        var published = new CopyOnWriteArrayList<ReservationChangeResponse>();
+        var unsubscribe = ((SubscriberChangeSink) changeSink).subscribe(published::addAll);
+
+        try {
+            var start = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.HOURS);
+            var created = parkingService.createReservation(createReservationRequest(start, TEST_PLATE_001));
+            parkingService.cancelReservation(created.getReservationId());
+            relay.relay();
+
+            var feed = changeFeedService.getChanges(cursor, 100);
+            var changes = feed.getChanges().stream()
+                    .filter(change -> change.getReservationId().equals(created.getReservationId()))
+                    .toList();
+            assertEquals(List.of(ChangeType.CREATED, ChangeType.CANCELLED),
+                    changes.stream().map(ReservationChangeResponse::getType).toList());
+            assertTrue(changes.getFirst().getPosition() < changes.getLast().getPosition());
+            assertEquals(created.getSpaceId(), changes.getFirst().getSpaceId());
+            assertEquals(feed.getChanges().getLast().getPosition(), feed.getNextCursor());
+
+            assertTrue(published.containsAll(changes));
+            assertTrue(changeFeedService.getChanges(feed.getNextCursor(), 100).getChanges().isEmpty());
+        } finally {
+            unsubscribe.run();
+        }
+    }
+
+    @Test
+    void relay_StoresCursorAndPrunesDeliveredChangesBeyondRetention() {
+        var start = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.HOURS);
+        var created = parkingService.createReservation(createReservationRequest(start, TEST_PLATE_002));
+        var published = new CopyOnWriteArrayList<ReservationChangeResponse>();
+        var pruningRelay = new OutboxRelay(changeRepository, cursorRepository, reservationMapper, published::addAll,
+                transactionManager, Duration.ofHours(1), 0);
+
+        pruningRelay.relay();
+
+        assertTrue(published.stream().anyMatch(change -> change.getReservationId().equals(created.getReservationId())));
+        assertTrue(cursorRepository.findById(OutboxRelay.RELAY_CURSOR).orElseThrow().getPosition() > 0);
+        var lastDelivered = published.getLast().getPosition();
+        assertTrue(changeFeedService.getChanges(0, 100).getChanges().stream()
+                .allMatch(change -> change.getPosition() > lastDelivered));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.model.BulkFormat;
+import com.example.parking.repository.ParkingReservationRepository;
+import com.example.parking.repository.ReservationPlateIndex;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static com.example.parking.util.TestConstants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class ParkingServiceBulkTest {
+
+    private final ParkingServiceImpl parkingService;
+
+    private final ParkingReservationRepository repository;
+
+    private final ReservationPlateIndex plateIndex;
+
+    @BeforeEach
+    void cleanUp() {
+        repository.deleteAll();
+        plateIndex.clear();
+    }
+
+    @Test
+    void exportThenImport_RoundTripsReservations() {
+        var start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        var ndjson = String.join("\n",
+                "{\"startTime\":\"" + start + "\",\"licensePlate\":\"" + TEST_PLATE_001 + "\"}",
+                "{\"startTime\":\"" + start.plusHours(1) + "\",\"licensePlate\":\"" + TEST_PLATE_001 + "\"}",
+                "{\"startTime\":\"" + start + "\",\"licensePlate\":\"" + TEST_PLATE_002 + "\",\"spaceId\":7}");
+
+        var imported = parkingService.importReservations(new BufferedReader(new StringReader(ndjson)), BulkFormat.NDJSON);
+        assertEquals(3, imported.getImported());
+        assertEquals(3, repository.count());
+
+        var csv = new StringWriter();
+        parkingService.exportReservations(csv, BulkFormat.CSV);
+
+        repository.deleteAll();
+        plateIndex.clear();
+
+        var reimported = parkingService.importReservations(
+                new BufferedReader(new StringReader(csv.toString())), BulkFormat.CSV);
+        assertEquals(3, reimported.getImported());
+        assertEquals(0, reimported.getRejected());
+        assertEquals(2, parkingService.getReservationsByLicensePlate(TEST_PLATE_001).size());
+        assertEquals(7, parkingService.getReservationsByLicensePlate(TEST_PLATE_002).getFirst().getSpaceId());
+    }
+}
@@ -1,36 +1,60 @@
 package com.example.parking.service.implementation;
 
+import com.example.parking.model.ReservationResponse;
 import com.example.parking.repository.ParkingReservationRepository;
+import com.example.parking.repository.ReservationPlateIndex;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static com.example.parking.util.ParkingServiceTestHelper.createReservationRequest;
 import static com.example.parking.util.TestConstants.SHOULD_NOT_EXCEED_80_SUCCESSFUL_RESERVATIONS;
 import static com.example.parking.util.TestConstants.THREAD_POOL_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 @RequiredArgsConstructor
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 class ParkingServiceConcurrencyTest {
 
+    private static final String BATCH_COMMIT_FAILURE = "batch commit failed";
+
     private final ParkingServiceImpl parkingService;
 
     private final ParkingReservationRepository repository;
 
+    private final ReservationPlateIndex plateIndex;
+
+    @MockitoSpyBean
+    private TransactionTemplate bookingTransactionTemplate;
+
     @BeforeEach
     void cleanUp() {
         repository.deleteAll();
+        plateIndex.clear();
     }
 
     @Test
@@ -63,6 +87,62 @@ class ParkingServiceConcurrencyTest {
         }
     }
 
+    @Test
+    void testConcurrentAsyncReservations() {
+        var startTime = LocalDateTime.now().plusHours(2);
+        var futures = new ArrayList<CompletableFuture<ReservationResponse>>();
+        for (var i = 0; i < 85; i++) {
+            futures.add(parkingService.createReservationAsync(createReservationRequest(startTime, "ASYNC" + i)));
+        }
+        futures.add(parkingService.createReservationAsync(createReservationRequest(startTime, "ASYNC0")));
+
+        var spaceIds = new HashSet<Integer>();
+        long failureCount = 0;
+        for (var future : futures) {
+            try {
+                spaceIds.add(future.join().getSpaceId());
+            } catch (CompletionException ex) {
+                failureCount++;
+            }
+        }
+
+        assertEquals(80, spaceIds.size(), SHOULD_NOT_EXCEED_80_SUCCESSFUL_RESERVATIONS);
+        assertEquals(6, failureCount);
+        assertEquals(80, repository.count());
+    }
+
+    @Test
+    void createReservationAsync_RetriesTheBookingsOfABatchWhoseTransactionFailedOneByOne() throws Exception {
+        var startTime = LocalDateTime.now().plusHours(2);
+        var firstBatchRunning = new CountDownLatch(1);
+        var releaseFirstBatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstBatchRunning.countDown();
+            releaseFirstBatch.await();
+            return invocation.callRealMethod();
+        }).doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            bookingTransactionTemplate.execute(status -> {
+                action.accept(status);
+                status.setRollbackOnly();
+                return null;
+            });
+            throw new TransactionSystemException(BATCH_COMMIT_FAILURE);
+        }).doCallRealMethod().when(bookingTransactionTemplate).executeWithoutResult(any());
+
+        var futures = new ArrayList<CompletableFuture<ReservationResponse>>();
+        futures.add(parkingService.createReservationAsync(createReservationRequest(startTime, "RETRY0")));
+        assertTrue(firstBatchRunning.await(1, TimeUnit.MINUTES));
+        for (var i = 1; i <= 3; i++) {
+            futures.add(parkingService.createReservationAsync(createReservationRequest(startTime, "RETRY" + i)));
+        }
+        releaseFirstBatch.countDown();
+
+        futures.forEach(CompletableFuture::join);
+        assertEquals(4, repository.count());
+        verify(bookingTransactionTemplate, times(5)).executeWithoutResult(any());
+    }
+
     private List<Callable<Boolean>> createReservationTasks(LocalDateTime startTime, int numberOfTasks) {
         var tasks = new ArrayList<Callable<Boolean>>();
         for (var i = 0; i < numberOfTasks; i++) {
@@ -1,15 +1,22 @@
 package com.example.parking.service.implementation;
 
+import com.example.parking.domain.ParkingLot;
 import com.example.parking.entity.ParkingReservation;
-import com.example.parking.entity.ParkingSpace;
 import com.example.parking.exception.ParkingFullException;
+import com.example.parking.mapper.ReservationBulkCodec;
 import com.example.parking.mapper.ReservationMapper;
 import com.example.parking.repository.ParkingReservationRepository;
+import com.example.parking.repository.ReservationBatchRepository;
+import com.example.parking.repository.ReservationOutbox;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.repository.ReservationVersions;
+import com.example.parking.repository.WaitlistEntryRepository;
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,7 +24,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -35,12 +41,32 @@ class ParkingServiceEdgeCaseTest {
     private ParkingReservationRepository reservationRepository;
 
     @Mock
-    private List<ParkingSpace> parkingSpaces;
+    private WaitlistEntryRepository waitlistRepository;
+
+    @Mock
+    private ReservationBatchRepository batchRepository;
+
+    @Mock
+    private ReservationOutbox outbox;
+
+    @Spy
+    private ParkingLot parkingLot = new ParkingLot(TOTAL_SPACES, MAX_OCCUPANCY);
 
     @Spy
     private ReservationMapper reservationMapper = Mappers.getMapper(ReservationMapper.class);
 
-    @InjectMocks
+    @Spy
+    private ReservationBulkCodec bulkCodec = new ReservationBulkCodec(JsonMapper.builder().findAndAddModules().build());
+
+    @Spy
+    private ReservationPlateIndex plateIndex = new ReservationPlateIndex();
+
+    @Spy
+    private ReservationVersions versions = new ReservationVersions();
+
+    @Spy
+    private SpaceAllocationStrategy spaceAllocationStrategy = new FirstFitAllocationStrategy();
+
     private ParkingServiceImpl parkingService;
 
     private LocalDateTime futureLdtTime;
@@ -48,15 +74,12 @@ class ParkingServiceEdgeCaseTest {
 
     @BeforeEach
     void setUp() {
+        var bookingRules = new BookingRules(parkingLot, plateIndex, spaceAllocationStrategy);
+        parkingService = new ParkingServiceImpl(reservationRepository, reservationMapper, bulkCodec, parkingLot,
+                waitlistRepository, batchRepository, plateIndex, versions, outbox, bookingRules, null);
+
         futureLdtTime = LocalDateTime.now().plusHours(2);
         futureTime = futureLdtTime.atZone(ZoneId.systemDefault()).toInstant();
-
-        List<ParkingSpace> mockSpaces = IntStream.rangeClosed(1, TOTAL_SPACES)
-                .mapToObj(ParkingSpace::new)
-                .toList();
-
-        lenient().when(parkingSpaces.size()).thenReturn(TOTAL_SPACES);
-        lenient().when(parkingSpaces.stream()).thenReturn(mockSpaces.stream());
     }
 
     @Test
@@ -66,8 +89,8 @@ class ParkingServiceEdgeCaseTest {
         when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class)))
                 .thenReturn(ALMOST_MAX_CAPACITY);
 
-        when(reservationRepository.findAllByTimeRange(any(Instant.class), any(Instant.class)))
-                .thenReturn(new ArrayList<>());
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of());
 
         when(reservationRepository.save(any())).thenAnswer(i -> {
             var res = (ParkingReservation) i.getArgument(0);
@@ -105,8 +128,8 @@ class ParkingServiceEdgeCaseTest {
         when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class)))
                 .thenReturn(SAFE_CAPACITY);
 
-        when(reservationRepository.findAllByTimeRange(any(Instant.class), any(Instant.class)))
-                .thenReturn(new ArrayList<>());
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of());
 
         when(reservationRepository.save(any())).thenAnswer(i -> {
             var res = (ParkingReservation) i.getArgument(0);
@@ -130,14 +153,8 @@ class ParkingServiceEdgeCaseTest {
         when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class)))
                 .thenReturn(ALMOST_MAX_CAPACITY);
 
-        var allConflictingReservations = new ArrayList<ParkingReservation>();
-        IntStream.rangeClosed(1, TOTAL_SPACES).forEach(i ->
-                allConflictingReservations.add(createMockReservation(i, futureTime,
-                        getTimeOneHourLater(futureTime), MOCK_PLATE_PREFIX + i))
-        );
-
-        when(reservationRepository.findAllByTimeRange(any(Instant.class), any(Instant.class)))
-                .thenReturn(allConflictingReservations);
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class)))
+                .thenReturn(IntStream.rangeClosed(1, TOTAL_SPACES).boxed().toList());
 
         var exception = assertThrows(ParkingFullException.class,
                 () -> parkingService.createReservation(request));
@@ -153,12 +170,8 @@ class ParkingServiceEdgeCaseTest {
         when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class)))
                 .thenReturn(SAFE_CAPACITY);
 
-        var existingReservation = createMockReservation(1, futureTime,
-                getTimeOneHourLater(futureTime), MOCK_PLATE_PREFIX + 1);
-        var existingReservations = List.of(existingReservation);
-
-        when(reservationRepository.findAllByTimeRange(any(Instant.class), any(Instant.class)))
-                .thenReturn(existingReservations);
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of(1));
 
         when(reservationRepository.save(any())).thenAnswer(i -> {
             var res = (ParkingReservation) i.getArgument(0);
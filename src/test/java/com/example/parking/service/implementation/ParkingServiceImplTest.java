@@ -1,35 +1,61 @@
 package com.example.parking.service.implementation;
 
+import com.example.parking.domain.ParkingLot;
+import com.example.parking.entity.ChangeType;
+import com.example.parking.entity.OccupiedSpace;
 import com.example.parking.entity.ParkingReservation;
-import com.example.parking.entity.ParkingSpace;
+import com.example.parking.entity.SpaceFilter;
+import com.example.parking.entity.SpaceSize;
+import com.example.parking.entity.WaitlistEntry;
+import com.example.parking.entity.WaitlistStatus;
+import com.example.parking.exception.InvalidSlotRangeException;
 import com.example.parking.exception.ParkingFullException;
 import com.example.parking.exception.ReservationConflictException;
 import com.example.parking.exception.ReservationNotFoundException;
+import com.example.parking.mapper.ReservationBulkCodec;
 import com.example.parking.mapper.ReservationMapper;
+import com.example.parking.model.BulkFormat;
+import com.example.parking.model.Recurrence;
+import com.example.parking.model.RecurringReservationRequest;
+import com.example.parking.model.ReservationRequest;
 import com.example.parking.model.ReservationResponse;
 import com.example.parking.repository.ParkingReservationRepository;
+import com.example.parking.repository.ReservationBatchRepository;
+import com.example.parking.repository.ReservationOutbox;
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.repository.ReservationVersions;
+import com.example.parking.repository.WaitlistEntryRepository;
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static com.example.parking.util.ParkingServiceTestHelper.*;
+import static com.example.parking.util.Constants.MSG_NO_MATCHING_SPACE;
+import static com.example.parking.util.Constants.ONE_HOUR_IN_SECONDS;
 import static com.example.parking.util.TestConstants.*;
 import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,12 +65,32 @@ class ParkingServiceImplTest {
     private ParkingReservationRepository reservationRepository;
 
     @Mock
-    private List<ParkingSpace> parkingSpaces;
+    private WaitlistEntryRepository waitlistRepository;
+
+    @Mock
+    private ReservationBatchRepository batchRepository;
+
+    @Mock
+    private ReservationOutbox outbox;
+
+    @Spy
+    private ParkingLot parkingLot = createParkingLot();
 
     @Spy
     private ReservationMapper reservationMapper = Mappers.getMapper(ReservationMapper.class);
 
-    @InjectMocks
+    @Spy
+    private ReservationBulkCodec bulkCodec = new ReservationBulkCodec(JsonMapper.builder().findAndAddModules().build());
+
+    @Spy
+    private ReservationPlateIndex plateIndex = new ReservationPlateIndex();
+
+    @Spy
+    private ReservationVersions versions = new ReservationVersions();
+
+    @Spy
+    private SpaceAllocationStrategy spaceAllocationStrategy = new FirstFitAllocationStrategy();
+
     private ParkingServiceImpl parkingService;
 
     private LocalDateTime futureLdtStartTime;
@@ -53,9 +99,12 @@ class ParkingServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        var bookingRules = new BookingRules(parkingLot, plateIndex, spaceAllocationStrategy);
+        parkingService = new ParkingServiceImpl(reservationRepository, reservationMapper, bulkCodec, parkingLot,
+                waitlistRepository, batchRepository, plateIndex, versions, outbox, bookingRules, null);
+
         futureLdtStartTime = getTimeOneHourLater(LocalDateTime.now());
         var futureStartTime = futureLdtStartTime.atZone(ZoneId.systemDefault()).toInstant();
-        var spaces = createParkingSpaces();
 
         mockReservation = createMockReservation(
                 TEST_RESERVATION_ID, 1, futureStartTime, getTimeOneHourLater(futureStartTime), LICENSE_PLATE
@@ -64,9 +113,6 @@ class ParkingServiceImplTest {
         mockResponse = createReservationResponse(
                 TEST_RESERVATION_ID, 1, LICENSE_PLATE, futureLdtStartTime, getTimeOneHourLater(futureLdtStartTime)
         );
-
-        lenient().when(parkingSpaces.size()).thenReturn(100);
-        lenient().when(parkingSpaces.stream()).thenReturn(spaces.stream());
     }
 
     @Test
@@ -74,8 +120,8 @@ class ParkingServiceImplTest {
         var request = createReservationRequest(futureLdtStartTime, LICENSE_PLATE);
 
         when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(0L);
-        when(reservationRepository.findAllByTimeRange(any(Instant.class), any(Instant.class)))
-                .thenReturn(new ArrayList<>());
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of());
         when(reservationRepository.save(any(ParkingReservation.class))).thenReturn(mockReservation);
 
         doReturn(mockResponse).when(reservationMapper).toResponse(any(ParkingReservation.class));
@@ -87,6 +133,63 @@ class ParkingServiceImplTest {
         assertEquals(mockReservation.getLicensePlate(), result.getLicensePlate());
 
         verify(reservationRepository, times(1)).save(any(ParkingReservation.class));
+        assertEquals(1, plateIndex.findByLicensePlate(LICENSE_PLATE).size());
+    }
+
+    @Test
+    void createReservation_ChangesGlobalAndSlotVersions() {
+        var request = createReservationRequest(futureLdtStartTime, LICENSE_PLATE);
+        var globalBefore = parkingService.getReservationsVersion();
+        var slotBefore = parkingService.getSlotVersion(futureLdtStartTime);
+        var otherSlotBefore = parkingService.getSlotVersion(futureLdtStartTime.plusDays(1));
+
+        when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(0L);
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of());
+        when(reservationRepository.save(any(ParkingReservation.class))).thenReturn(mockReservation);
+
+        parkingService.createReservation(request);
+
+        assertNotEquals(globalBefore, parkingService.getReservationsVersion());
+        assertNotEquals(slotBefore, parkingService.getSlotVersion(futureLdtStartTime.plusMinutes(30)));
+        assertEquals(otherSlotBefore, parkingService.getSlotVersion(futureLdtStartTime.plusDays(1)));
+    }
+
+    @Test
+    void createReservation_SkipsClosedSpacesAndShrinksCapacity() {
+        var request = createReservationRequest(futureLdtStartTime, LICENSE_PLATE);
+        parkingLot.setClosed(1, 50, true);
+
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of());
+        when(reservationRepository.save(any(ParkingReservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(39L);
+        assertEquals(51, parkingService.createReservation(request).getSpaceId());
+
+        when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(40L);
+        var nextRequest = createReservationRequest(futureLdtStartTime, TEST_PLATE_001);
+        assertThrows(ParkingFullException.class, () -> parkingService.createReservation(nextRequest));
+    }
+
+    @Test
+    void createReservation_WithSpaceFilter_AllocatesMatchingSpace() {
+        parkingLot.setAttribute(91, 100, ParkingLot.EV, true);
+        parkingLot.setSize(95, 100, SpaceSize.LARGE);
+        var request = new ReservationRequest(futureLdtStartTime, LICENSE_PLATE, true, false, SpaceSize.LARGE);
+
+        when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(0L);
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of(95));
+        when(reservationRepository.save(any(ParkingReservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(96, parkingService.createReservation(request).getSpaceId());
+        assertEquals(List.of(96, 97, 98, 99, 100), parkingService.getFreeSpaces(
+                futureLdtStartTime, new SpaceFilter(true, false, SpaceSize.LARGE)));
+
+        var accessibleRequest = new ReservationRequest(futureLdtStartTime, TEST_PLATE_002, false, true, null);
+        var ex = assertThrows(ParkingFullException.class, () -> parkingService.createReservation(accessibleRequest));
+        assertEquals(MSG_NO_MATCHING_SPACE, ex.getMessage());
     }
 
     @Test
@@ -113,8 +216,7 @@ class ParkingServiceImplTest {
         var request = createReservationRequest(futureLdtStartTime, LICENSE_PLATE);
         var startInstant = futureLdtStartTime.atZone(ZoneId.systemDefault()).toInstant();
 
-        when(reservationRepository.findByLicensePlateAndExactStart(LICENSE_PLATE, startInstant))
-                .thenReturn(List.of(new ParkingReservation()));
+        plateIndex.add(createMockReservation(1, startInstant, getTimeOneHourLater(startInstant), LICENSE_PLATE));
 
         assertThrows(ReservationConflictException.class, () -> parkingService.createReservation(request));
         verify(reservationRepository, never()).save(any());
@@ -124,12 +226,9 @@ class ParkingServiceImplTest {
     void createReservation_OverlappingTime_ThrowsConflict() {
         var request = createReservationRequest(futureLdtStartTime, LICENSE_PLATE);
         var startInstant = futureLdtStartTime.atZone(ZoneId.systemDefault()).toInstant();
-        var endInstant = getTimeOneHourLater(startInstant);
 
-        when(reservationRepository.findByLicensePlateAndExactStart(LICENSE_PLATE, startInstant))
-                .thenReturn(Collections.emptyList());
-        when(reservationRepository.findOverlappingByLicensePlate(LICENSE_PLATE, startInstant, endInstant))
-                .thenReturn(List.of(new ParkingReservation()));
+        var overlappingStart = startInstant.minusSeconds(ONE_HOUR_IN_SECONDS / 2);
+        plateIndex.add(createMockReservation(1, overlappingStart, getTimeOneHourLater(overlappingStart), LICENSE_PLATE));
 
         assertThrows(ReservationConflictException.class, () -> parkingService.createReservation(request));
         verify(reservationRepository, never()).save(any());
@@ -140,8 +239,11 @@ class ParkingServiceImplTest {
         var reservationId = TEST_RESERVATION_ID;
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(mockReservation));
 
+        plateIndex.add(mockReservation);
+
         parkingService.cancelReservation(reservationId);
         verify(reservationRepository, times(1)).delete(mockReservation);
+        assertTrue(plateIndex.findByLicensePlate(LICENSE_PLATE).isEmpty());
     }
 
     @Test
@@ -153,6 +255,91 @@ class ParkingServiceImplTest {
         verify(reservationRepository, never()).delete(any());
     }
 
+    @Test
+    void rescheduleReservation_KeepsSpaceWhenFreeInNewSlot() {
+        var previousStart = mockReservation.getStartTime();
+        plateIndex.add(mockReservation);
+        when(reservationRepository.findById(TEST_RESERVATION_ID)).thenReturn(Optional.of(mockReservation));
+        when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(0L);
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(List.of(2));
+
+        var result = parkingService.rescheduleReservation(TEST_RESERVATION_ID, futureLdtStartTime.plusDays(1));
+
+        assertEquals(1, result.getSpaceId());
+        assertEquals(futureLdtStartTime.plusDays(1), result.getStartTime());
+        assertEquals(result.getStartTime(), parkingService.getReservationsByLicensePlate(LICENSE_PLATE).getFirst().getStartTime());
+        verify(outbox).record(ChangeType.RESCHEDULED, mockReservation);
+        verify(waitlistRepository).findWaitingByTimeRange(previousStart, getTimeOneHourLater(previousStart));
+        verify(reservationRepository, never()).delete(any());
+    }
+
+    @Test
+    void rescheduleReservation_OverlappingSlotWithSpaceTaken_MovesToAnotherSpace() {
+        plateIndex.add(mockReservation);
+        when(reservationRepository.findById(TEST_RESERVATION_ID)).thenReturn(Optional.of(mockReservation));
+        when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(MAX_CAPACITY_LIMIT);
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(List.of(1, 1));
+
+        var result = parkingService.rescheduleReservation(TEST_RESERVATION_ID, futureLdtStartTime.plusMinutes(30));
+
+        assertEquals(2, result.getSpaceId());
+        assertEquals(1, plateIndex.findByLicensePlate(LICENSE_PLATE).size());
+    }
+
+    @Test
+    void rescheduleReservation_SpaceTaken_MovesToSpaceMatchingOriginalFilter() {
+        parkingLot.setAttribute(91, 100, ParkingLot.EV, true);
+        var start = mockReservation.getStartTime();
+        var evReservation = new ParkingReservation(TEST_RESERVATION_ID, 91, start, getTimeOneHourLater(start),
+                LICENSE_PLATE, new SpaceFilter(true, false, null));
+        plateIndex.add(evReservation);
+        when(reservationRepository.findById(TEST_RESERVATION_ID)).thenReturn(Optional.of(evReservation));
+        when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(1L);
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(List.of(91));
+
+        var result = parkingService.rescheduleReservation(TEST_RESERVATION_ID, futureLdtStartTime.plusDays(1));
+
+        assertEquals(92, result.getSpaceId());
+        assertTrue(evReservation.isEvCharging());
+    }
+
+    @Test
+    void cancelReservationsBySlotRange_EndNotAfterStart_ThrowsInvalidSlotRange() {
+        assertThrows(InvalidSlotRangeException.class,
+                () -> parkingService.cancelReservationsBySlotRange(futureLdtStartTime, futureLdtStartTime));
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void rescheduleReservation_PlateConflict_LeavesReservationUntouched() {
+        var otherStart = mockReservation.getStartTime().plusSeconds(2 * ONE_HOUR_IN_SECONDS);
+        plateIndex.add(mockReservation);
+        plateIndex.add(createMockReservation(2, otherStart, getTimeOneHourLater(otherStart), LICENSE_PLATE));
+        when(reservationRepository.findById(TEST_RESERVATION_ID)).thenReturn(Optional.of(mockReservation));
+        var newStart = futureLdtStartTime.plusHours(2);
+
+        assertThrows(ReservationConflictException.class,
+                () -> parkingService.rescheduleReservation(TEST_RESERVATION_ID, newStart));
+        assertEquals(2, plateIndex.findByLicensePlate(LICENSE_PLATE).size());
+        assertEquals(1, mockReservation.getSpaceId());
+        verify(outbox, never()).record(any(ChangeType.class), any(ParkingReservation.class));
+    }
+
+    @Test
+    void cancelReservationsByLicensePlate_DeletesAllInOneBatch() {
+        var nextStart = mockReservation.getStartTime().plusSeconds(ONE_HOUR_IN_SECONDS * 24);
+        var next = createMockReservation(3, nextStart, getTimeOneHourLater(nextStart), LICENSE_PLATE);
+        plateIndex.add(mockReservation);
+        plateIndex.add(next);
+
+        var result = parkingService.cancelReservationsByLicensePlate(LICENSE_PLATE);
+
+        assertEquals(2, result.getCancelled());
+        verify(reservationRepository).deleteAllByIdInBatch(List.of(TEST_RESERVATION_ID, next.getId()));
+        verify(outbox).record(ChangeType.CANCELLED, List.of(mockReservation, next));
+        assertTrue(plateIndex.findByLicensePlate(LICENSE_PLATE).isEmpty());
+    }
+
     @Test
     void getReservation_Success() {
         var reservationId = TEST_RESERVATION_ID;
@@ -184,4 +371,221 @@ class ParkingServiceImplTest {
         assertEquals(1, result.size());
         assertEquals(mockReservation.getId(), result.getFirst().getReservationId());
     }
+
+    @Test
+    void getReservationsByLicensePlate_NormalizesPlate() {
+        plateIndex.add(mockReservation);
+
+        var result = parkingService.getReservationsByLicensePlate(" abc-123 ");
+        assertEquals(1, result.size());
+        assertEquals(mockReservation.getId(), result.getFirst().getReservationId());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void getReservationsByLicensePlate_AfterPruning_OmitsEndedReservations() {
+        var endedStart = Instant.now().minusSeconds(2 * ONE_HOUR_IN_SECONDS);
+        plateIndex.add(createMockReservation(2, endedStart, getTimeOneHourLater(endedStart), LICENSE_PLATE));
+        plateIndex.add(mockReservation);
+
+        var removed = plateIndex.removeEndedBy(Instant.now());
+
+        assertEquals(1, removed.size());
+        var result = parkingService.getReservationsByLicensePlate(LICENSE_PLATE);
+        assertEquals(1, result.size());
+        assertEquals(TEST_RESERVATION_ID, result.getFirst().getReservationId());
+    }
+
+    @Test
+    void getReservationsByLicensePlate_UnknownPlate_ReturnsEmpty() {
+        var result = parkingService.getReservationsByLicensePlate(TEST_PLATE_001);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void createRecurringReservation_KeepsSameSpaceAcrossOccurrences() {
+        var request = new RecurringReservationRequest(futureLdtStartTime, LICENSE_PLATE, Recurrence.DAILY, 5);
+        var thirdStart = futureLdtStartTime.plusDays(2).atZone(ZoneId.systemDefault()).toInstant();
+
+        when(reservationRepository.findOccupiedSpacesByTimeRange(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of(new OccupiedSpace(TEST_RESERVATION_ID, thirdStart, 7)));
+        when(reservationRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        var result = parkingService.createRecurringReservation(request);
+        assertEquals(5, result.size());
+        assertEquals(1, result.stream().map(ReservationResponse::getSpaceId).distinct().count());
+        assertNotEquals(7, result.getFirst().getSpaceId());
+        assertEquals(futureLdtStartTime.plusDays(4), result.getLast().getStartTime());
+        assertEquals(5, plateIndex.findByLicensePlate(LICENSE_PLATE).size());
+
+        verify(reservationRepository, times(1)).findOccupiedSpacesByTimeRange(any(Instant.class), any(Instant.class));
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void createRecurringReservation_WeekdaysStartingOnSaturday_BeginsOnMonday() {
+        var saturday = futureLdtStartTime.with(TemporalAdjusters.next(DayOfWeek.SATURDAY));
+        var request = new RecurringReservationRequest(saturday, LICENSE_PLATE, Recurrence.WEEKDAYS, 6);
+        when(reservationRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        var result = parkingService.createRecurringReservation(request);
+        assertEquals(6, result.size());
+        assertEquals(saturday.plusDays(2), result.getFirst().getStartTime());
+        assertEquals(saturday.plusDays(9), result.getLast().getStartTime());
+        assertTrue(result.stream().map(r -> r.getStartTime().getDayOfWeek())
+                .noneMatch(day -> day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY));
+    }
+
+    @Test
+    void createRecurringReservation_OneSlotFull_SavesNothing() {
+        var request = new RecurringReservationRequest(futureLdtStartTime, LICENSE_PLATE, Recurrence.WEEKLY, 3);
+        var secondStart = futureLdtStartTime.plusWeeks(1).atZone(ZoneId.systemDefault()).toInstant();
+        var fullSlot = IntStream.rangeClosed(1, (int) MAX_CAPACITY_LIMIT)
+                .mapToObj(i -> new OccupiedSpace(MOCK_PLATE_PREFIX + i, secondStart, i))
+                .toList();
+
+        when(reservationRepository.findOccupiedSpacesByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(fullSlot);
+
+        assertThrows(ParkingFullException.class, () -> parkingService.createRecurringReservation(request));
+        verify(reservationRepository, never()).saveAll(any());
+        assertTrue(plateIndex.findByLicensePlate(LICENSE_PLATE).isEmpty());
+    }
+
+    @Test
+    void createRecurringReservation_PlateConflictInLaterOccurrence_ThrowsConflict() {
+        var request = new RecurringReservationRequest(futureLdtStartTime, LICENSE_PLATE, Recurrence.DAILY, 3);
+        var lastStart = futureLdtStartTime.plusDays(2).atZone(ZoneId.systemDefault()).toInstant();
+        plateIndex.add(createMockReservation(1, lastStart, getTimeOneHourLater(lastStart), LICENSE_PLATE));
+
+        assertThrows(ReservationConflictException.class, () -> parkingService.createRecurringReservation(request));
+        verify(reservationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void cancelReservation_PromotesFirstWaitingEntryIntoFreedSpace() {
+        var waiting = new WaitlistEntry(mockReservation.getStartTime(), mockReservation.getEndTime(), TEST_PLATE_001);
+        when(reservationRepository.findById(TEST_RESERVATION_ID)).thenReturn(Optional.of(mockReservation));
+        when(waitlistRepository.findWaitingByTimeRange(mockReservation.getStartTime(), mockReservation.getEndTime()))
+                .thenReturn(List.of(waiting));
+        when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(MAX_CAPACITY_LIMIT - 1);
+        when(reservationRepository.existsBySpaceIdAndTimeRange(anyInt(), any(Instant.class), any(Instant.class))).thenReturn(false);
+        when(reservationRepository.save(any(ParkingReservation.class))).thenAnswer(i -> i.getArgument(0));
+
+        parkingService.cancelReservation(TEST_RESERVATION_ID);
+
+        assertEquals(WaitlistStatus.PROMOTED, waiting.getStatus());
+        var promoted = plateIndex.findByLicensePlate(TEST_PLATE_001);
+        assertEquals(1, promoted.size());
+        assertEquals(mockReservation.getSpaceId(), promoted.getFirst().getSpaceId());
+        assertEquals(promoted.getFirst().getId(), waiting.getReservationId());
+    }
+
+    @Test
+    void joinWaitlist_ParkingFull_QueuesEntry() {
+        var request = createReservationRequest(futureLdtStartTime, LICENSE_PLATE);
+        when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(MAX_CAPACITY_LIMIT);
+        when(waitlistRepository.save(any(WaitlistEntry.class))).thenAnswer(i -> i.getArgument(0));
+        when(waitlistRepository.countWaitingAheadInSlot(any(Instant.class), any(Instant.class))).thenReturn(3L);
+
+        var result = parkingService.joinWaitlist(request);
+
+        assertEquals(WaitlistStatus.WAITING, result.getStatus());
+        assertEquals(3L, result.getPosition());
+        assertNull(result.getReservationId());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void joinWaitlist_SpaceAvailable_BooksImmediately() {
+        var request = createReservationRequest(futureLdtStartTime, LICENSE_PLATE);
+        when(reservationRepository.countByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(SAFE_CAPACITY);
+        when(reservationRepository.findSpaceIdsByTimeRange(any(Instant.class), any(Instant.class))).thenReturn(List.of());
+        when(reservationRepository.save(any(ParkingReservation.class))).thenAnswer(i -> i.getArgument(0));
+        when(waitlistRepository.save(any(WaitlistEntry.class))).thenAnswer(i -> i.getArgument(0));
+
+        var result = parkingService.joinWaitlist(request);
+
+        assertEquals(WaitlistStatus.PROMOTED, result.getStatus());
+        assertNotNull(result.getEntryId());
+        assertNotNull(result.getReservationId());
+        verify(waitlistRepository).save(argThat(entry -> entry.getId().equals(result.getEntryId())
+                && entry.getReservationId().equals(result.getReservationId())));
+    }
+
+    @Test
+    void getWaitlistEntry_SlotStarted_ReportsExpiredWithoutWriting() {
+        var pastStart = Instant.now().minusSeconds(ONE_HOUR_IN_SECONDS);
+        var entry = new WaitlistEntry(pastStart, getTimeOneHourLater(pastStart), LICENSE_PLATE);
+        when(waitlistRepository.findById(entry.getId())).thenReturn(Optional.of(entry));
+
+        var result = parkingService.getWaitlistEntry(entry.getId());
+
+        assertEquals(WaitlistStatus.EXPIRED, result.getStatus());
+        assertEquals(WaitlistStatus.WAITING, entry.getStatus());
+        verify(waitlistRepository, never()).save(any());
+    }
+
+    @Test
+    void cancelReservation_MarksStartedWaitingEntriesExpired() {
+        var pastStart = Instant.now().minusSeconds(ONE_HOUR_IN_SECONDS / 2);
+        var past = createMockReservation(TEST_RESERVATION_ID, 1, pastStart, getTimeOneHourLater(pastStart), LICENSE_PLATE);
+        var waiting = new WaitlistEntry(pastStart, getTimeOneHourLater(pastStart), TEST_PLATE_001);
+        when(reservationRepository.findById(TEST_RESERVATION_ID)).thenReturn(Optional.of(past));
+        when(waitlistRepository.findWaitingByTimeRange(past.getStartTime(), past.getEndTime()))
+                .thenReturn(List.of(waiting));
+
+        parkingService.cancelReservation(TEST_RESERVATION_ID);
+
+        assertEquals(WaitlistStatus.EXPIRED, waiting.getStatus());
+        verify(waitlistRepository).save(waiting);
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void importReservations_RejectsInvalidRowsAndBatchesTheRest() {
+        var start = futureLdtStartTime.withNano(0);
+        var csv = String.join("\n",
+                ReservationBulkCodec.CSV_HEADER,
+                ",," + start + ",," + LICENSE_PLATE,
+                ",," + start + ",," + LICENSE_PLATE,
+                ",," + start.minusDays(2) + ",," + TEST_PLATE_001,
+                "not,a,valid,line",
+                "imported-id,5," + start + "," + start.plusHours(1) + "," + TEST_PLATE_002);
+
+        when(reservationRepository.findOccupiedSpacesEndingAfter(any(Instant.class))).thenReturn(List.of());
+
+        var result = parkingService.importReservations(new BufferedReader(new StringReader(csv)), BulkFormat.CSV);
+
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(3, result.getErrors().getFirst().getLine());
+        verify(batchRepository, times(1)).insertAll(argThat(batch -> batch.size() == 2
+                && batch.get(1).getSpaceId() == 5 && batch.get(1).getId().equals("imported-id")));
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void importReservations_RejectsIdsOfPastReservationsAndReadsQuotedPlates() {
+        var start = futureLdtStartTime.withNano(0);
+        var csv = String.join("\n",
+                ReservationBulkCodec.CSV_HEADER,
+                "past-id,," + start + ",," + TEST_PLATE_001,
+                ",," + start + ",,\"AB,\"\"1\"\"\"");
+
+        when(reservationRepository.findOccupiedSpacesEndingAfter(any(Instant.class))).thenReturn(List.of());
+        when(reservationRepository.existsById("past-id")).thenReturn(true);
+
+        var result = parkingService.importReservations(new BufferedReader(new StringReader(csv)), BulkFormat.CSV);
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertEquals(2, result.getErrors().getFirst().getLine());
+        verify(batchRepository).insertAll(argThat(batch -> batch.size() == 1
+                && batch.getFirst().getLicensePlate().equals("AB,\"1\"")));
+
+        var exported = new ReservationResponse(TEST_RESERVATION_ID, 1, start, start.plusHours(1), "AB,\"1\"");
+        var line = bulkCodec.format(exported, BulkFormat.CSV);
+        assertTrue(line.endsWith(",\"AB,\"\"1\"\"\""));
+        assertEquals("AB,\"1\"", bulkCodec.parse(line, BulkFormat.CSV).getLicensePlate());
+    }
 }
@@ -0,0 +1,77 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.entity.ParkingReservation;
+import com.example.parking.repository.ParkingReservationRepository;
+import com.example.parking.repository.ReservationPlateIndex;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.example.parking.util.PartitionUtil.partitionOf;
+import static com.example.parking.util.TestConstants.TEST_PLATE_001;
+import static com.example.parking.util.TestConstants.TEST_PLATE_002;
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class ReservationRetentionTest {
+
+    private final ReservationRetention retention;
+
+    private final ParkingReservationRepository repository;
+
+    private final ReservationPlateIndex plateIndex;
+
+    @BeforeEach
+    void cleanUp() {
+        repository.deleteAll();
+        plateIndex.clear();
+    }
+
+    @Test
+    void countByTimeRange_FindsReservationStartingInPreviousPartition() {
+        var midnight = LocalDate.now(ZoneOffset.UTC).plusDays(3).atStartOfDay(ZoneOffset.UTC).toInstant();
+        var lateStart = midnight.minus(30, ChronoUnit.MINUTES);
+        repository.save(new ParkingReservation(5, lateStart, getTimeOneHourLater(lateStart), TEST_PLATE_001));
+
+        assertEquals(partitionOf(midnight) - 1, repository.findAll().getFirst().getPartitionDay());
+        assertEquals(1, repository.countByTimeRange(midnight, getTimeOneHourLater(midnight)));
+        assertEquals(List.of(5), repository.findSpaceIdsByTimeRange(midnight, getTimeOneHourLater(midnight)));
+        assertEquals(0, repository.countByTimeRange(getTimeOneHourLater(midnight), midnight.plus(2, ChronoUnit.HOURS)));
+    }
+
+    @Test
+    void dropPartitionsBefore_RemovesOlderPartitionsOnly() {
+        var today = LocalDate.now(ZoneOffset.UTC).atStartOfDay(ZoneOffset.UTC).toInstant();
+        var old = save(1, today.minus(10, ChronoUnit.DAYS).plus(9, ChronoUnit.HOURS), TEST_PLATE_001);
+        var recent = save(2, today.minus(1, ChronoUnit.DAYS).plus(9, ChronoUnit.HOURS), TEST_PLATE_001);
+        var upcoming = save(3, today.plus(1, ChronoUnit.DAYS).plus(9, ChronoUnit.HOURS), TEST_PLATE_002);
+
+        var dropped = retention.dropPartitionsBefore(partitionOf(today) - 1);
+
+        assertEquals(1, dropped);
+        assertFalse(repository.existsById(old.getId()));
+        assertTrue(repository.existsById(recent.getId()));
+        assertTrue(repository.existsById(upcoming.getId()));
+        assertEquals(1, plateIndex.findByLicensePlate(TEST_PLATE_001).size());
+        assertEquals(recent.getId(), plateIndex.findByLicensePlate(TEST_PLATE_001).getFirst().getId());
+        assertEquals(1, plateIndex.findByLicensePlate(TEST_PLATE_002).size());
+    }
+
+    private ParkingReservation save(int spaceId, Instant startTime, String licensePlate) {
+        var reservation = repository.save(
+                new ParkingReservation(spaceId, startTime, getTimeOneHourLater(startTime), licensePlate));
+        plateIndex.add(reservation);
+        return reservation;
+    }
+}
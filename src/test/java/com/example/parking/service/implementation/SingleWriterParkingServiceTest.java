@@ -0,0 +1,144 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.entity.WaitlistStatus;
+import com.example.parking.exception.ReservationConflictException;
+import com.example.parking.model.ReservationResponse;
+import com.example.parking.repository.ParkingReservationRepository;
+import com.example.parking.repository.ReservationJournal;
+import com.example.parking.repository.WaitlistEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.example.parking.util.ParkingServiceTestHelper.createReservationRequest;
+import static com.example.parking.util.TestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+
+@SpringBootTest(properties = "parking.engine=single-writer")
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class SingleWriterParkingServiceTest {
+
+    private static final String JOURNAL_FAILURE = "journal unavailable";
+
+    private final SingleWriterParkingService parkingService;
+
+    private final ParkingReservationRepository repository;
+
+    private final WaitlistEntryRepository waitlistRepository;
+
+    @MockitoSpyBean
+    private ReservationJournal journal;
+
+    @BeforeEach
+    void cleanUp() {
+        repository.deleteAll();
+        waitlistRepository.deleteAll();
+        parkingService.reload();
+    }
+
+    @Test
+    void createAndCancelReservation_IsJournaled() {
+        var start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+        var created = parkingService.createReservation(createReservationRequest(start, TEST_PLATE_001));
+        assertTrue(repository.existsById(created.getReservationId()));
+        assertThrows(ReservationConflictException.class,
+                () -> parkingService.createReservation(createReservationRequest(start.plusMinutes(30), TEST_PLATE_001)));
+
+        parkingService.cancelReservation(created.getReservationId());
+        assertEquals(0, repository.count());
+        assertTrue(parkingService.getReservationsByLicensePlate(TEST_PLATE_001).isEmpty());
+    }
+
+    @Test
+    void createReservation_IsPublishedOnlyAfterTheJournalWrite() {
+        var start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        var version = parkingService.getSlotVersion(start);
+        var visibleDuringWrite = new ArrayList<ReservationResponse>();
+        var versionsDuringWrite = new ArrayList<String>();
+        doAnswer(invocation -> {
+            visibleDuringWrite.addAll(parkingService.getReservationsBySlot(start));
+            versionsDuringWrite.add(parkingService.getSlotVersion(start));
+            throw new DataAccessResourceFailureException(JOURNAL_FAILURE);
+        }).when(journal).write(any(), any(), any(), any(), any());
+
+        var ex = assertThrows(DataAccessResourceFailureException.class,
+                () -> parkingService.createReservation(createReservationRequest(start, TEST_PLATE_001)));
+        assertEquals(JOURNAL_FAILURE, ex.getMessage());
+        assertTrue(visibleDuringWrite.isEmpty());
+        assertEquals(List.of(version), versionsDuringWrite);
+        assertTrue(parkingService.getReservationsBySlot(start).isEmpty());
+        assertEquals(version, parkingService.getSlotVersion(start));
+
+        doCallRealMethod().when(journal).write(any(), any(), any(), any(), any());
+        var created = parkingService.createReservation(createReservationRequest(start, TEST_PLATE_001));
+        assertEquals(created.getReservationId(), parkingService.getReservation(created.getReservationId()).getReservationId());
+        assertNotEquals(version, parkingService.getSlotVersion(start));
+    }
+
+    @Test
+    void rescheduleAndBulkCancel_AreJournaled() {
+        var start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+        var created = parkingService.createReservation(createReservationRequest(start, TEST_PLATE_001));
+        var moved = parkingService.rescheduleReservation(created.getReservationId(), start.plusHours(3));
+        assertEquals(created.getReservationId(), moved.getReservationId());
+        assertEquals(created.getSpaceId(), moved.getSpaceId());
+        assertEquals(start.plusHours(3), moved.getStartTime());
+        assertEquals(1, repository.count());
+
+        parkingService.createReservation(createReservationRequest(start, TEST_PLATE_002));
+        var result = parkingService.cancelReservationsBySlotRange(start.plusHours(1), start.plusHours(4));
+        assertEquals(1, result.getCancelled());
+        assertFalse(repository.existsById(moved.getReservationId()));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void concurrentAsyncReservations_RespectCapacityAndPromoteWaitlist() {
+        var start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        var futures = new ArrayList<CompletableFuture<ReservationResponse>>();
+        for (var i = 0; i < 85; i++) {
+            futures.add(parkingService.createReservationAsync(createReservationRequest(start, "ENGINE" + i)));
+        }
+
+        var reservationIds = new ArrayList<String>();
+        var spaceIds = new HashSet<Integer>();
+        for (var future : futures) {
+            try {
+                var response = future.join();
+                reservationIds.add(response.getReservationId());
+                spaceIds.add(response.getSpaceId());
+            } catch (CompletionException ignored) {
+            }
+        }
+        assertEquals(80, spaceIds.size(), SHOULD_NOT_EXCEED_80_SUCCESSFUL_RESERVATIONS);
+        assertEquals(80, repository.count());
+
+        var waiting = parkingService.joinWaitlist(createReservationRequest(start, TEST_PLATE_002));
+        assertEquals(WaitlistStatus.WAITING, waiting.getStatus());
+
+        parkingService.cancelReservation(reservationIds.getFirst());
+
+        var promoted = parkingService.getWaitlistEntry(waiting.getEntryId());
+        assertEquals(WaitlistStatus.PROMOTED, promoted.getStatus());
+        assertTrue(repository.existsById(promoted.getReservationId()));
+        assertEquals(80, repository.count());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.parking.service.implementation;
+
+import com.example.parking.repository.ReservationPlateIndex;
+import com.example.parking.service.contract.SpaceAllocationStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.BitSet;
+
+import static com.example.parking.util.ParkingServiceTestHelper.createMockReservation;
+import static com.example.parking.util.TestConstants.LICENSE_PLATE;
+import static com.example.parking.util.TestConstants.TOTAL_SPACES;
+import static com.example.parking.util.TimeUtil.getTimeOneHourLater;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceAllocationStrategyTest {
+
+    private Instant startTime;
+    private Instant endTime;
+    private BitSet occupiedSpaces;
+
+    @BeforeEach
+    void setUp() {
+        startTime = Instant.now().plusSeconds(7200);
+        endTime = getTimeOneHourLater(startTime);
+        occupiedSpaces = new BitSet(TOTAL_SPACES + 1);
+        occupiedSpaces.set(1, 6);
+    }
+
+    @Test
+    void firstFit_ReturnsLowestFreeSpace() {
+        var strategy = new FirstFitAllocationStrategy();
+        assertEquals(6, strategy.allocate(occupiedSpaces, TOTAL_SPACES, LICENSE_PLATE, startTime, endTime));
+    }
+
+    @Test
+    void allStrategies_ReturnNoSpaceWhenFull() {
+        occupiedSpaces.set(1, TOTAL_SPACES + 1);
+        var strategies = new SpaceAllocationStrategy[]{
+                new FirstFitAllocationStrategy(),
+                new RandomAllocationStrategy(),
+                new ZoneBalancedAllocationStrategy(10),
+                new NeighbourSlotAllocationStrategy(new ReservationPlateIndex(), new FirstFitAllocationStrategy())
+        };
+
+        for (var strategy : strategies) {
+            assertEquals(SpaceAllocationStrategy.NO_SPACE,
+                    strategy.allocate(occupiedSpaces, TOTAL_SPACES, LICENSE_PLATE, startTime, endTime));
+        }
+    }
+
+    @Test
+    void random_NeverReturnsOccupiedSpace() {
+        var strategy = new RandomAllocationStrategy();
+        occupiedSpaces.set(1, TOTAL_SPACES);
+
+        for (var i = 0; i < 50; i++) {
+            assertEquals(TOTAL_SPACES, strategy.allocate(occupiedSpaces, TOTAL_SPACES, LICENSE_PLATE, startTime, endTime));
+        }
+    }
+
+    @Test
+    void random_PicksEveryFreeSpaceWithEqualProbability() {
+        var strategy = new RandomAllocationStrategy();
+        occupiedSpaces.clear();
+        occupiedSpaces.set(2, TOTAL_SPACES - 1);
+        var picks = new int[TOTAL_SPACES + 1];
+        var draws = 30_000;
+
+        for (var i = 0; i < draws; i++) {
+            picks[strategy.allocate(occupiedSpaces, TOTAL_SPACES, LICENSE_PLATE, startTime, endTime)]++;
+        }
+
+        // free spaces are 1, TOTAL_SPACES - 1 and TOTAL_SPACES; a probe followed by nextClearBit lands on
+        // TOTAL_SPACES - 1 almost every time
+        for (var spaceId : new int[]{1, TOTAL_SPACES - 1, TOTAL_SPACES}) {
+            assertEquals(draws / 3.0, picks[spaceId], draws * 0.03);
+        }
+    }
+
+    @Test
+    void neighbourSlot_ReusesSpaceOfAdjacentReservation() {
+        var plateIndex = new ReservationPlateIndex();
+        plateIndex.add(createMockReservation(42, startTime.minusSeconds(3600), startTime, LICENSE_PLATE));
+        var strategy = new NeighbourSlotAllocationStrategy(plateIndex, new FirstFitAllocationStrategy());
+
+        assertEquals(42, strategy.allocate(occupiedSpaces, TOTAL_SPACES, LICENSE_PLATE, startTime, endTime));
+
+        occupiedSpaces.set(42);
+        assertEquals(6, strategy.allocate(occupiedSpaces, TOTAL_SPACES, LICENSE_PLATE, startTime, endTime));
+    }
+
+    @Test
+    void zoneBalanced_PicksLeastOccupiedZone() {
+        var strategy = new ZoneBalancedAllocationStrategy(10);
+        for (var zoneStart = 1; zoneStart <= TOTAL_SPACES; zoneStart += 10) {
+            occupiedSpaces.set(zoneStart, zoneStart + 5);
+        }
+        occupiedSpaces.clear(73, 76);
+
+        assertEquals(73, strategy.allocate(occupiedSpaces, TOTAL_SPACES, LICENSE_PLATE, startTime, endTime));
+    }
+}
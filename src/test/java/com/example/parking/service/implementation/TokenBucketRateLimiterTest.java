@@ -0,0 +1,73 @@
+package com.example.parking.service.implementation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.parking.util.TestConstants.LICENSE_PLATE;
+import static com.example.parking.util.TestConstants.TEST_PLATE_001;
+import static com.example.parking.util.TestConstants.THREAD_POOL_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void tryAcquire_GrantsBurstThenRefillsAtRate() {
+        var limiter = new TokenBucketRateLimiter(60, 3, 10, now::get);
+
+        for (var i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire(LICENSE_PLATE));
+        }
+        assertEquals(ONE_SECOND, limiter.tryAcquire(LICENSE_PLATE));
+        assertEquals(0, limiter.tryAcquire(TEST_PLATE_001));
+
+        now.addAndGet(ONE_SECOND);
+        assertEquals(0, limiter.tryAcquire(LICENSE_PLATE));
+        assertTrue(limiter.tryAcquire(LICENSE_PLATE) > 0);
+    }
+
+    @Test
+    void tryAcquire_RejectsNewKeysWhenFullAndEvictsRefilledBuckets() {
+        var limiter = new TokenBucketRateLimiter(60, 1, 2, now::get);
+        limiter.tryAcquire("A");
+        limiter.tryAcquire("B");
+
+        assertEquals(ONE_SECOND, limiter.tryAcquire("C"));
+        assertEquals(2, limiter.size());
+
+        now.addAndGet(ONE_SECOND);
+        assertEquals(0, limiter.tryAcquire("C"));
+        assertTrue(limiter.tryAcquire("C") > 0);
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void tryAcquire_ConcurrentCallersShareOneBurst() throws InterruptedException {
+        var limiter = new TokenBucketRateLimiter(60, 50, 10, now::get);
+        var granted = new AtomicInteger();
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE)) {
+            for (var i = 0; i < 500; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    if (limiter.tryAcquire(LICENSE_PLATE) == 0) {
+                        granted.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(50, granted.get());
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.parking.util;
 
+import com.example.parking.domain.ParkingLot;
 import com.example.parking.entity.ParkingReservation;
-import com.example.parking.entity.ParkingSpace;
 import com.example.parking.model.ReservationRequest;
 import com.example.parking.model.ReservationResponse;
 import lombok.experimental.UtilityClass;
@@ -9,17 +9,15 @@ import lombok.experimental.UtilityClass;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
+
+import static com.example.parking.util.TestConstants.MAX_OCCUPANCY;
+import static com.example.parking.util.TestConstants.TOTAL_SPACES;
 
 @UtilityClass
 public class ParkingServiceTestHelper {
 
-    public static ArrayList<ParkingSpace> createParkingSpaces() {
-        var spaces = new ArrayList<ParkingSpace>();
-        for (var i = 1; i <= 100; i++) {
-            spaces.add(new ParkingSpace(i));
-        }
-        return spaces;
+    public static ParkingLot createParkingLot() {
+        return new ParkingLot(TOTAL_SPACES, MAX_OCCUPANCY);
     }
 
     public static ReservationRequest createReservationRequest(LocalDateTime start, String licensePlate) {
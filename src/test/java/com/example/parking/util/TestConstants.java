@@ -8,6 +8,7 @@ public class TestConstants {
     public static final String SHOULD_NOT_EXCEED_80_SUCCESSFUL_RESERVATIONS = "Should not exceed 80 successful reservations";
 
     public static final int TOTAL_SPACES = 100;
+    public static final double MAX_OCCUPANCY = 0.8;
     public static final long MAX_CAPACITY_LIMIT = 80L;
     public static final long ALMOST_MAX_CAPACITY = 79L;
     public static final long SAFE_CAPACITY = 10L;